@@ -0,0 +1,60 @@
+package com.reserv.reservation_system.benchmark;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import com.reserv.reservation_system.reservation.domain.ReservationStatus;
+import com.reserv.reservation_system.reservation.persistence.ReservationEntity;
+
+final class BenchmarkData {
+
+    static final LocalDate BASE_DATE = LocalDate.now().plusDays(1);
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * {@code count} reservations spread over {@code rooms} rooms: every room gets back-to-back
+     * three-night stays, every second one APPROVED and the rest PENDING.
+     */
+    static List<ReservationEntity> reservations(int count, int rooms, int users) {
+        List<ReservationEntity> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long roomId = i % rooms + 1;
+            int slot = i / rooms;
+            LocalDate start = BASE_DATE.plusDays(slot * 3L);
+            result.add(new ReservationEntity(
+                (long) i + 1,
+                (long) i % users + 1,
+                roomId,
+                start,
+                start.plusDays(3),
+                slot % 2 == 0 ? ReservationStatus.APPROVED : ReservationStatus.PENDING
+            ));
+        }
+        return result;
+    }
+
+    static PlatformTransactionManager noOpTransactionManager() {
+        return new PlatformTransactionManager() {
+            @Override
+            public TransactionStatus getTransaction(TransactionDefinition definition) {
+                return new SimpleTransactionStatus();
+            }
+
+            @Override
+            public void commit(TransactionStatus status) {
+            }
+
+            @Override
+            public void rollback(TransactionStatus status) {
+            }
+        };
+    }
+}
@@ -0,0 +1,77 @@
+package com.reserv.reservation_system.benchmark;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.reserv.reservation_system.common.metrics.ReservationMetrics;
+import com.reserv.reservation_system.reservation.availability.ApprovedReservationIndex;
+import com.reserv.reservation_system.reservation.availability.CalendarResponse;
+import com.reserv.reservation_system.reservation.availability.ConflictLookups;
+import com.reserv.reservation_system.reservation.availability.ReservationAvailabilityService;
+import com.reserv.reservation_system.reservation.persistence.ReservationRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 365-day x 500-room occupancy calendar, every room fully booked with alternating
+ * APPROVED/PENDING stays, i.e. the largest number of runs per room.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CalendarBenchmark {
+
+    private static final int ROOMS = 500;
+    private static final int DAYS = 365;
+
+    private ReservationAvailabilityService service;
+    private List<Long> roomIds;
+    private LocalDate from;
+    private LocalDate to;
+
+    @Setup
+    public void setUp() {
+        ReservationRepository repository = InMemoryReservationRepository.create(
+            BenchmarkData.reservations(ROOMS * (DAYS / 3 + 1), ROOMS, 1_000)
+        );
+        var registry = new SimpleMeterRegistry();
+        service = new ReservationAvailabilityService(
+            repository,
+            // Only used by the batch check without the index, which is not benchmarked here.
+            null,
+            new ApprovedReservationIndex(repository, false),
+            new ConflictLookups(repository, BenchmarkData.noOpTransactionManager(), registry, 1, 1),
+            new ReservationMetrics(registry),
+            BenchmarkData.noOpTransactionManager()
+        );
+        roomIds = LongStream.rangeClosed(1, ROOMS).boxed().toList();
+        from = BenchmarkData.BASE_DATE;
+        to = from.plusDays(DAYS);
+    }
+
+    @Benchmark
+    public CalendarResponse approvedOnly() {
+        return service.calendar(roomIds, from, to, false);
+    }
+
+    @Benchmark
+    public CalendarResponse withPending() {
+        return service.calendar(roomIds, from, to, true);
+    }
+}
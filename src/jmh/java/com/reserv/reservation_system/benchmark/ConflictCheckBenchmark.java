@@ -0,0 +1,88 @@
+package com.reserv.reservation_system.benchmark;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.reserv.reservation_system.reservation.availability.ApprovedReservationIndex;
+import com.reserv.reservation_system.reservation.domain.ReservationStatus;
+import com.reserv.reservation_system.reservation.persistence.ReservationEntity;
+import com.reserv.reservation_system.reservation.persistence.ReservationInterval;
+import com.reserv.reservation_system.reservation.service.RoomConflictResolver;
+
+/**
+ * Conflict detection used by availability checks and approvals:
+ * the in-memory interval index and the greedy resolver of bulk approvals.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConflictCheckBenchmark {
+
+    private static final int ROOMS = 100;
+
+    @Param({"10", "1000"})
+    private int approvedPerRoom;
+
+    private ApprovedReservationIndex index;
+    private List<ReservationInterval> approved;
+    private List<ReservationInterval> candidates;
+    private LocalDate freeStart;
+    private LocalDate busyStart;
+
+    @Setup
+    public void setUp() {
+        List<ReservationEntity> rows = BenchmarkData.reservations(ROOMS * approvedPerRoom * 2, ROOMS, 1_000);
+
+        index = new ApprovedReservationIndex(InMemoryReservationRepository.create(rows), true);
+        index.rebuild();
+
+        approved = new ArrayList<>();
+        candidates = new ArrayList<>();
+        for (ReservationEntity row : rows) {
+            var interval = new ReservationInterval(
+                row.getId(), row.getRoomId(), row.getStartDate(), row.getEndDate(), row.getStatus()
+            );
+            if (row.getStatus() == ReservationStatus.APPROVED) {
+                approved.add(interval);
+            } else if (candidates.size() < 100) {
+                candidates.add(interval);
+            }
+        }
+
+        // Slots alternate APPROVED/PENDING: slot 1 of every room is free, an even slot is taken.
+        freeStart = BenchmarkData.BASE_DATE.plusDays(3);
+        busyStart = BenchmarkData.BASE_DATE.plusDays(approvedPerRoom * 3L);
+    }
+
+    @Benchmark
+    public List<Long> indexLookupFree() {
+        return index.findConflicts(7L, freeStart, freeStart.plusDays(3));
+    }
+
+    @Benchmark
+    public List<Long> indexLookupReserved() {
+        return index.findConflicts(7L, busyStart, busyStart.plusDays(5));
+    }
+
+    @Benchmark
+    public RoomConflictResolver.Resolution resolveBulkApproval() {
+        return RoomConflictResolver.resolve(candidates, approved);
+    }
+}
@@ -0,0 +1,178 @@
+package com.reserv.reservation_system.benchmark;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import com.reserv.reservation_system.reservation.domain.Reservation;
+import com.reserv.reservation_system.reservation.domain.ReservationStatus;
+import com.reserv.reservation_system.reservation.persistence.ReservationEntity;
+import com.reserv.reservation_system.reservation.persistence.ReservationInterval;
+import com.reserv.reservation_system.reservation.persistence.ReservationRepository;
+import com.reserv.reservation_system.reservation.persistence.ReservationSearchCriteria;
+import com.reserv.reservation_system.reservation.persistence.ReservationSortKey;
+
+/**
+ * Stand-in for {@link ReservationRepository} backed by maps, covering the methods used by
+ * the service hot paths. {@code findById} hands out copies, so a benchmarked approval
+ * doesn't change the state seen by the next invocation.
+ */
+final class InMemoryReservationRepository implements InvocationHandler {
+
+    private final TreeMap<Long, ReservationEntity> rows = new TreeMap<>();
+    private final Map<Long, List<ReservationEntity>> rowsByRoom = new HashMap<>();
+
+    private InMemoryReservationRepository(List<ReservationEntity> entities) {
+        for (ReservationEntity entity : entities) {
+            rows.put(entity.getId(), entity);
+            rowsByRoom.computeIfAbsent(entity.getRoomId(), it -> new ArrayList<>()).add(entity);
+        }
+    }
+
+    static ReservationRepository create(List<ReservationEntity> entities) {
+        return (ReservationRepository) Proxy.newProxyInstance(
+            ReservationRepository.class.getClassLoader(),
+            new Class<?>[] {ReservationRepository.class},
+            new InMemoryReservationRepository(entities)
+        );
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object invoke(Object proxy, Method method, Object[] args) {
+        return switch (method.getName()) {
+            case "findById" -> Optional.ofNullable(rows.get((Long) args[0]))
+                .map(InMemoryReservationRepository::copy);
+            case "findReservationById" -> Optional.ofNullable(rows.get((Long) args[0]))
+                .map(InMemoryReservationRepository::toDomain);
+            case "findArchivedReservationById" -> Optional.empty();
+            case "findRoomIdById" -> Optional.ofNullable(rows.get((Long) args[0]))
+                .map(ReservationEntity::getRoomId);
+            case "findAllById" -> findAllById((Iterable<Long>) args[0]);
+            case "findConflictReservationIds" -> findConflictReservationIds(
+                (Long) args[0], (LocalDate) args[1], (LocalDate) args[2], (ReservationStatus) args[3]);
+            case "findOverlappingIntervals" -> findOverlappingIntervals(
+                (Collection<Long>) args[0], (LocalDate) args[1], (LocalDate) args[2],
+                (Collection<ReservationStatus>) args[3]);
+            case "findAllIntervalsByStatus" -> rows.values().stream()
+                .filter(it -> it.getStatus() == args[0])
+                .map(InMemoryReservationRepository::toInterval)
+                .toList();
+            case "search" -> search((ReservationSearchCriteria) args[0]);
+            case "save", "saveAndFlush" -> args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "equals" -> proxy == args[0];
+            case "toString" -> "InMemoryReservationRepository";
+            default -> throw new UnsupportedOperationException(method.getName());
+        };
+    }
+
+    private List<ReservationEntity> findAllById(Iterable<Long> ids) {
+        List<ReservationEntity> result = new ArrayList<>();
+        for (Long id : ids) {
+            ReservationEntity entity = rows.get(id);
+            if (entity != null) {
+                result.add(copy(entity));
+            }
+        }
+        return result;
+    }
+
+    private List<Long> findConflictReservationIds(
+        Long roomId,
+        LocalDate startDate,
+        LocalDate endDate,
+        ReservationStatus status
+    ) {
+        return rowsByRoom.getOrDefault(roomId, List.of()).stream()
+            .filter(it -> it.getStatus() == status
+                && startDate.isBefore(it.getEndDate())
+                && it.getStartDate().isBefore(endDate))
+            .map(ReservationEntity::getId)
+            .toList();
+    }
+
+    private List<ReservationInterval> findOverlappingIntervals(
+        Collection<Long> roomIds,
+        LocalDate startDate,
+        LocalDate endDate,
+        Collection<ReservationStatus> statuses
+    ) {
+        return roomIds.stream()
+            .flatMap(roomId -> rowsByRoom.getOrDefault(roomId, List.of()).stream())
+            .filter(it -> statuses.contains(it.getStatus())
+                && startDate.isBefore(it.getEndDate())
+                && it.getStartDate().isBefore(endDate))
+            .map(InMemoryReservationRepository::toInterval)
+            .toList();
+    }
+
+    private List<Reservation> search(ReservationSearchCriteria criteria) {
+        Comparator<ReservationEntity> order = criteria.sortKey() == ReservationSortKey.START_DATE
+            ? Comparator.comparing(ReservationEntity::getStartDate).thenComparing(ReservationEntity::getId)
+            : Comparator.comparing(ReservationEntity::getId);
+
+        return rows.values().stream()
+            .filter(it -> criteria.roomId() == null || criteria.roomId().equals(it.getRoomId()))
+            .filter(it -> criteria.userId() == null || criteria.userId().equals(it.getUserId()))
+            .filter(it -> criteria.status() == null || criteria.status() == it.getStatus())
+            .filter(it -> criteria.afterId() == null || isAfter(criteria, it))
+            .sorted(order)
+            .skip(criteria.afterId() == null ? criteria.offset() : 0)
+            .limit(criteria.limit())
+            .map(InMemoryReservationRepository::toDomain)
+            .toList();
+    }
+
+    private static boolean isAfter(ReservationSearchCriteria criteria, ReservationEntity entity) {
+        if (criteria.sortKey() == ReservationSortKey.START_DATE) {
+            int byDate = entity.getStartDate().compareTo(criteria.afterStartDate());
+            return byDate > 0 || (byDate == 0 && entity.getId() > criteria.afterId());
+        }
+        return entity.getId() > criteria.afterId();
+    }
+
+    private static ReservationInterval toInterval(ReservationEntity entity) {
+        return new ReservationInterval(
+            entity.getId(),
+            entity.getRoomId(),
+            entity.getStartDate(),
+            entity.getEndDate(),
+            entity.getStatus()
+        );
+    }
+
+    private static Reservation toDomain(ReservationEntity entity) {
+        return new Reservation(
+            entity.getId(),
+            entity.getUserId(),
+            entity.getRoomId(),
+            entity.getStartDate(),
+            entity.getEndDate(),
+            entity.getStatus(),
+            entity.getVersion()
+        );
+    }
+
+    private static ReservationEntity copy(ReservationEntity entity) {
+        var copy = new ReservationEntity(
+            entity.getId(),
+            entity.getUserId(),
+            entity.getRoomId(),
+            entity.getStartDate(),
+            entity.getEndDate(),
+            entity.getStatus()
+        );
+        copy.setVersion(entity.getVersion());
+        return copy;
+    }
+}
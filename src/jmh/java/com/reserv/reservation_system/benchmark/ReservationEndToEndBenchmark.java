@@ -0,0 +1,149 @@
+package com.reserv.reservation_system.benchmark;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.reserv.reservation_system.ReservationSystemApplication;
+import com.reserv.reservation_system.common.datasource.DataSourceRouting;
+import com.reserv.reservation_system.reservation.availability.ApprovedReservationIndex;
+import com.reserv.reservation_system.reservation.availability.ReservationAvailabilityService;
+import com.reserv.reservation_system.reservation.domain.Reservation;
+import com.reserv.reservation_system.reservation.persistence.ReservationEntity;
+import com.reserv.reservation_system.reservation.persistence.ReservationRepository;
+import com.reserv.reservation_system.reservation.service.ReservationSearchFilter;
+import com.reserv.reservation_system.reservation.service.ReservationService;
+import com.reserv.reservation_system.reservation.service.ReservationSlice;
+
+/**
+ * Full Spring context against H2 in PostgreSQL mode, schema created by Hibernate.
+ * Point {@code bench.datasource.url} (plus username/password) at a local PostgreSQL
+ * to run the same benchmarks against the real database. {@code bench.replica.url} adds a
+ * replica pool, e.g. the same H2 URL to exercise read routing with two embedded pools.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReservationEndToEndBenchmark {
+
+    private static final int ROOMS = 200;
+    private static final int USERS = 1_000;
+    private static final int RESERVATIONS = 20_000;
+
+    @Param({"true", "false"})
+    private boolean availabilityIndex;
+
+    private ConfigurableApplicationContext context;
+    private ReservationService service;
+    private ReservationAvailabilityService availabilityService;
+    private ReservationSearchFilter byUser;
+    private ReservationSearchFilter largePage;
+    private Long existingId;
+
+    private final AtomicLong nextSlot = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(ReservationSystemApplication.class)
+            .web(WebApplicationType.NONE)
+            .run(
+                "--spring.datasource.url=" + System.getProperty("bench.datasource.url",
+                    "jdbc:h2:mem:reservations;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1"),
+                "--spring.datasource.username=" + System.getProperty("bench.datasource.username", "sa"),
+                "--spring.datasource.password=" + System.getProperty("bench.datasource.password", ""),
+                "--spring.flyway.enabled=false",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--reservation.outbox.enabled=false",
+                "--reservation.archive.enabled=false",
+                "--reservation.summary.enabled=false",
+                "--reservation.datasource.replica-urls=" + System.getProperty("bench.replica.url", ""),
+                "--reservation.availability.index.enabled=" + availabilityIndex
+            );
+
+        ReservationRepository repository = context.getBean(ReservationRepository.class);
+        List<ReservationEntity> rows = BenchmarkData.reservations(RESERVATIONS, ROOMS, USERS);
+        rows.forEach(it -> it.setId(null));
+        repository.saveAll(rows);
+
+        service = context.getBean(ReservationService.class);
+        availabilityService = context.getBean(ReservationAvailabilityService.class);
+        if (availabilityIndex) {
+            context.getBean(ApprovedReservationIndex.class).rebuild();
+        }
+
+        // Seed rows may not have reached a replica yet.
+        existingId = DataSourceRouting.onPrimary(repository::findAll).get(RESERVATIONS / 2).getId();
+        byUser = new ReservationSearchFilter(null, 7L, null, 20, null, null, "");
+        largePage = new ReservationSearchFilter(null, null, null, 1_000, 3, null, null);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Reservation getById() {
+        return service.getReservationById(existingId);
+    }
+
+    @Benchmark
+    public ReservationSlice searchByUser() {
+        return service.searchSliceByFilter(byUser);
+    }
+
+    @Benchmark
+    public List<Reservation> searchLargePage() {
+        return service.searchAllByFilter(largePage);
+    }
+
+    @Benchmark
+    public boolean checkAvailability() {
+        LocalDate start = BenchmarkData.BASE_DATE.plusDays(30);
+        return availabilityService.isReservationAvailable(7L, start, start.plusDays(3)).join();
+    }
+
+    /**
+     * Many threads checking the same room and dates; without the index they share queries.
+     */
+    @Benchmark
+    @Threads(32)
+    public boolean checkAvailabilityHerd() {
+        return checkAvailability();
+    }
+
+    @Benchmark
+    public Reservation createAndApprove() {
+        // Every invocation books a new slot far behind the seeded data, so it never conflicts.
+        long slot = nextSlot.getAndIncrement();
+        LocalDate start = BenchmarkData.BASE_DATE.plusYears(100).plusDays(slot / ROOMS * 2);
+        var created = service.createReservation(new Reservation(
+            null, slot % USERS + 1, slot % ROOMS + 1, start, start.plusDays(2), null, null
+        ));
+        return service.approveReservation(created.id());
+    }
+}
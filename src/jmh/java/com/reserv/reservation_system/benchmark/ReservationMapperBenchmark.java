@@ -0,0 +1,78 @@
+package com.reserv.reservation_system.benchmark;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.reserv.reservation_system.reservation.api.dto.ReservationRequest;
+import com.reserv.reservation_system.reservation.api.dto.ReservationResponse;
+import com.reserv.reservation_system.reservation.domain.Reservation;
+import com.reserv.reservation_system.reservation.domain.ReservationStatus;
+import com.reserv.reservation_system.reservation.persistence.ReservationEntity;
+import com.reserv.reservation_system.reservation.service.ReservationMapper;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReservationMapperBenchmark {
+
+    private final ReservationMapper mapper = new ReservationMapper();
+
+    private ReservationEntity entity;
+    private Reservation domain;
+    private ReservationRequest request;
+    private LocalDate startDate;
+    private LocalDate endDate;
+
+    @Setup
+    public void setUp() {
+        startDate = BenchmarkData.BASE_DATE;
+        endDate = startDate.plusDays(3);
+        entity = new ReservationEntity(1L, 2L, 3L, startDate, endDate, ReservationStatus.PENDING);
+        domain = mapper.toDomain(entity);
+        request = new ReservationRequest(2L, 3L, startDate, endDate);
+    }
+
+    @Benchmark
+    public Reservation entityToDomain() {
+        return mapper.toDomain(entity);
+    }
+
+    @Benchmark
+    public ReservationEntity domainToEntity() {
+        return mapper.toEntity(domain);
+    }
+
+    @Benchmark
+    public ReservationResponse domainToResponse() {
+        return mapper.toResponse(domain);
+    }
+
+    @Benchmark
+    public Reservation requestToDomain() {
+        return mapper.toDomain(request);
+    }
+
+    @Benchmark
+    public ReservationResponse entityToResponse() {
+        return mapper.toResponse(mapper.toDomain(entity));
+    }
+
+    @Benchmark
+    public Reservation validatedRecord() {
+        return new Reservation(1L, 2L, 3L, startDate, endDate, ReservationStatus.PENDING, 0L);
+    }
+}
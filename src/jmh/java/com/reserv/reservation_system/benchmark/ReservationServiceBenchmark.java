@@ -0,0 +1,134 @@
+package com.reserv.reservation_system.benchmark;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.reserv.reservation_system.common.metrics.ReservationMetrics;
+import com.reserv.reservation_system.reservation.availability.ApprovedReservationIndex;
+import com.reserv.reservation_system.reservation.domain.Reservation;
+import com.reserv.reservation_system.reservation.domain.ReservationStatus;
+import com.reserv.reservation_system.reservation.persistence.ReservationEntity;
+import com.reserv.reservation_system.reservation.persistence.ReservationRepository;
+import com.reserv.reservation_system.reservation.service.ReservationCache;
+import com.reserv.reservation_system.reservation.service.ReservationCreateBatcher;
+import com.reserv.reservation_system.reservation.service.ReservationMapper;
+import com.reserv.reservation_system.reservation.service.ReservationSearchFilter;
+import com.reserv.reservation_system.reservation.service.ReservationService;
+import com.reserv.reservation_system.reservation.service.RoomApprovalLocks;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Service hot paths over {@link InMemoryReservationRepository}, i.e. the cost of the
+ * service and mapping code without the database round trip.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReservationServiceBenchmark {
+
+    private static final int ROOMS = 500;
+    private static final int USERS = 1_000;
+
+    @Param({"10000", "100000"})
+    private int reservations;
+
+    @Param({"true", "false"})
+    private boolean cache;
+
+    private ReservationService service;
+    private ReservationSearchFilter byUser;
+    private ReservationSearchFilter byRoomDeepPage;
+    private Long pendingId;
+    private Long conflictingPendingId;
+
+    @Setup
+    public void setUp() {
+        List<ReservationEntity> rows = BenchmarkData.reservations(reservations, ROOMS, USERS);
+        ReservationRepository repository = InMemoryReservationRepository.create(rows);
+
+        var index = new ApprovedReservationIndex(repository, false);
+        var registry = new SimpleMeterRegistry();
+        var metrics = new ReservationMetrics(registry);
+        service = new ReservationService(
+            repository,
+            new ReservationMapper(),
+            index,
+            new RoomApprovalLocks(1024, metrics),
+            metrics,
+            new ReservationCache(cache, 10_000, Duration.ofMinutes(1), Duration.ofSeconds(2), registry),
+            event -> { },
+            BenchmarkData.noOpTransactionManager(),
+            new ReservationCreateBatcher(
+                repository, new ReservationMapper(), event -> { },
+                BenchmarkData.noOpTransactionManager(), registry,
+                false, 50, Duration.ofMillis(2), 1, Duration.ofSeconds(5)
+            ),
+            // Only used by conditional updates, which are not benchmarked here.
+            null
+        );
+
+        byUser = new ReservationSearchFilter(null, 7L, null, 20, 0, null, null);
+        byRoomDeepPage = new ReservationSearchFilter(7L, null, null, 20, 5, null, null);
+
+        // The last slot of a room has no approved neighbour after it; the first pending one
+        // sits right after an approved stay and is made to overlap it below.
+        pendingId = rows.stream()
+            .filter(it -> it.getStatus() == ReservationStatus.PENDING)
+            .reduce((first, second) -> second)
+            .orElseThrow()
+            .getId();
+        ReservationEntity conflicting = rows.stream()
+            .filter(it -> it.getStatus() == ReservationStatus.PENDING)
+            .findFirst()
+            .orElseThrow();
+        conflicting.setStartDate(conflicting.getStartDate().minusDays(1));
+        conflictingPendingId = conflicting.getId();
+    }
+
+    @Benchmark
+    public Reservation getById() {
+        return service.getReservationById(pendingId);
+    }
+
+    @Benchmark
+    public List<Reservation> searchFirstPage() {
+        return service.searchAllByFilter(byUser);
+    }
+
+    @Benchmark
+    public List<Reservation> searchDeepPage() {
+        return service.searchAllByFilter(byRoomDeepPage);
+    }
+
+    @Benchmark
+    public Reservation approveWithoutConflicts() {
+        return service.approveReservation(pendingId);
+    }
+
+    @Benchmark
+    public void approveWithConflicts(Blackhole blackhole) {
+        try {
+            blackhole.consume(service.approveReservation(conflictingPendingId));
+        } catch (IllegalStateException e) {
+            blackhole.consume(e);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.reserv.reservation_system.benchmark;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.reserv.reservation_system.common.web.CborConfiguration;
+import com.reserv.reservation_system.reservation.api.dto.ReservationResponse;
+import com.reserv.reservation_system.reservation.service.ReservationMapper;
+
+/**
+ * JSON against CBOR for a {@code GET /reservation} page, with the mappers configured as the
+ * application does. The payload size of each combination is printed once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WireFormatBenchmark {
+
+    @Param({"json", "cbor"})
+    private String format;
+
+    @Param({"20", "1000"})
+    private int pageSize;
+
+    private List<ReservationResponse> page;
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws IOException {
+        ReservationMapper mapper = new ReservationMapper();
+        page = BenchmarkData.reservations(pageSize, 200, 1_000).stream()
+            .map(mapper::toDomain)
+            .map(mapper::toResponse)
+            .toList();
+
+        ObjectMapper objectMapper = format.equals("cbor")
+            ? CborConfiguration.cborMapper(Jackson2ObjectMapperBuilder.json())
+            : Jackson2ObjectMapperBuilder.json().build();
+        writer = objectMapper.writerFor(objectMapper.getTypeFactory()
+            .constructCollectionType(List.class, ReservationResponse.class));
+        reader = objectMapper.readerFor(objectMapper.getTypeFactory()
+            .constructCollectionType(List.class, ReservationResponse.class));
+        payload = writer.writeValueAsBytes(page);
+
+        System.out.printf("%n%s, %d reservations: %d bytes (%.1f per reservation)%n",
+            format, pageSize, payload.length, (double) payload.length / pageSize);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return writer.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public List<ReservationResponse> deserialize() throws IOException {
+        return reader.readValue(payload);
+    }
+}
@@ -0,0 +1,43 @@
+package com.reserv.reservation_system.common.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * Per-thread override of replica routing. Code running inside {@link #onPrimary}
+ * reads from the primary even in read-only transactions, e.g. right after a write
+ * the replicas may not have replayed yet.
+ */
+public final class DataSourceRouting {
+
+    private static final ThreadLocal<Boolean> PINNED_TO_PRIMARY = new ThreadLocal<>();
+
+    private DataSourceRouting() {
+    }
+
+    public static boolean isPinnedToPrimary() {
+        return Boolean.TRUE.equals(PINNED_TO_PRIMARY.get());
+    }
+
+    public static <T> T onPrimary(Supplier<T> action) {
+        Boolean previous = pin();
+        try {
+            return action.get();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    static Boolean pin() {
+        Boolean previous = PINNED_TO_PRIMARY.get();
+        PINNED_TO_PRIMARY.set(Boolean.TRUE);
+        return previous;
+    }
+
+    static void restore(Boolean previous) {
+        if (previous == null) {
+            PINNED_TO_PRIMARY.remove();
+        } else {
+            PINNED_TO_PRIMARY.set(previous);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.reserv.reservation_system.common.datasource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Replaces the auto-configured DataSource once {@code reservation.datasource.replica-urls}
+ * is set. The primary pool keeps the {@code spring.datasource.*} settings, every replica
+ * gets its own read-only Hikari pool named {@code replica-N}, so {@code hikaricp_*}
+ * metrics are reported per datasource. The replica pools are closed with the routing
+ * datasource that owns them.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnExpression("!'${reservation.datasource.replica-urls:}'.isBlank()")
+public class ReplicaDataSourceConfiguration {
+
+    @Bean(defaultCandidate = false)
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties, MeterRegistry registry) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+        primary.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+        return primary;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("routingDataSource") ReplicaRoutingDataSource routing) {
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    @Bean(defaultCandidate = false)
+    public ReplicaRoutingDataSource routingDataSource(
+        @Qualifier("primaryDataSource") HikariDataSource primary,
+        DataSourceProperties properties,
+        MeterRegistry registry,
+        @Value("${reservation.datasource.replica-urls}") List<String> replicaUrls,
+        @Value("${reservation.datasource.replica-username:}") String username,
+        @Value("${reservation.datasource.replica-password:}") String password,
+        @Value("${reservation.datasource.replica-pool-size:20}") int poolSize
+    ) {
+        List<HikariDataSource> replicas = new ArrayList<>(replicaUrls.size());
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + i);
+            replica.setJdbcUrl(replicaUrls.get(i).trim());
+            replica.setUsername(username.isBlank() ? properties.determineUsername() : username);
+            replica.setPassword(password.isBlank() ? properties.determinePassword() : password);
+            replica.setMaximumPoolSize(poolSize);
+            replica.setConnectionTimeout(primary.getConnectionTimeout());
+            replica.setReadOnly(true);
+            replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+            replicas.add(replica);
+        }
+        return new ReplicaRoutingDataSource(primary, replicas, registry);
+    }
+}
@@ -0,0 +1,90 @@
+package com.reserv.reservation_system.common.datasource;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Hands out replica connections, round robin, to read-only transactions and primary
+ * connections to everything else. The key is resolved when a connection is requested,
+ * so it has to sit behind a {@code LazyConnectionDataSourceProxy}: the read-only flag
+ * of a transaction is only set after the transaction manager has asked for a connection.
+ * The replicas are owned by this datasource and closed with it; the primary is not.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    static final String PRIMARY = "primary";
+
+    static final String CONNECTIONS_COUNTER = "reservation.datasource.connections";
+
+    private final List<? extends DataSource> replicas;
+    private final List<String> replicaKeys = new ArrayList<>();
+    private final Map<String, Counter> connections = new HashMap<>();
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<? extends DataSource> replicas, MeterRegistry registry) {
+        this.replicas = List.copyOf(replicas);
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        connections.put(PRIMARY, counter(registry, PRIMARY));
+        for (int i = 0; i < replicas.size(); i++) {
+            String key = "replica-" + i;
+            replicaKeys.add(key);
+            targets.put(key, replicas.get(i));
+            connections.put(key, counter(registry, key));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String key = PRIMARY;
+        if (!replicaKeys.isEmpty()
+                && TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && !DataSourceRouting.isPinnedToPrimary()) {
+            key = replicaKeys.get(Math.floorMod(next.getAndIncrement(), replicaKeys.size()));
+        }
+        connections.get(key).increment();
+        return key;
+    }
+
+    @Override
+    public void destroy() {
+        for (DataSource replica : replicas) {
+            if (replica instanceof Closeable closeable) {
+                try {
+                    closeable.close();
+                } catch (IOException e) {
+                    log.warn("Failed to close replica datasource", e);
+                }
+            }
+        }
+    }
+
+    private static Counter counter(MeterRegistry registry, String target) {
+        return Counter.builder(CONNECTIONS_COUNTER)
+            .description("Connections handed out per routing target")
+            .tag("target", target)
+            .register(registry);
+    }
+}
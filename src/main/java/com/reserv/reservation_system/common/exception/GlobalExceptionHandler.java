@@ -1,11 +1,14 @@
 package com.reserv.reservation_system.common.exception;
 
 import java.time.LocalDateTime;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -64,8 +67,11 @@ public class GlobalExceptionHandler {
                 .body(errorDto);
     }
 
-    @ExceptionHandler(OptimisticLockException.class)
-    public ResponseEntity<ErrorResponseDto> handleOptimisticLock(OptimisticLockException e) {
+    @ExceptionHandler(exception = {
+        OptimisticLockException.class,
+        ObjectOptimisticLockingFailureException.class
+    })
+    public ResponseEntity<ErrorResponseDto> handleOptimisticLock(Exception e) {
         log.error("Handle optimistic lock exception {}", e);
 
         var errorDto = new ErrorResponseDto(
@@ -79,4 +85,49 @@ public class GlobalExceptionHandler {
                 .body(errorDto);
     }
 
+    @ExceptionHandler(StaleReservationException.class)
+    public ResponseEntity<ErrorResponseDto> handleStaleReservation(StaleReservationException e) {
+        log.warn("Handle StaleReservationException: {}", e.getMessage());
+
+        var errorDto = new ErrorResponseDto(
+                "Reservation was modified, reload it and retry",
+                e.getMessage(),
+                LocalDateTime.now()
+        );
+
+        return ResponseEntity
+                .status(HttpStatus.PRECONDITION_FAILED)
+                .body(errorDto);
+    }
+
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ErrorResponseDto> handleDataIntegrityViolation(DataIntegrityViolationException e) {
+        log.error("Handle DataIntegrityViolationException", e);
+
+        var errorDto = new ErrorResponseDto(
+                "Reservation conflicts with existing data",
+                e.getMostSpecificCause().getMessage(),
+                LocalDateTime.now()
+        );
+
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(errorDto);
+    }
+
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<ErrorResponseDto> handleRejectedExecution(RejectedExecutionException e) {
+        log.warn("Handle RejectedExecutionException: {}", e.getMessage());
+
+        var errorDto = new ErrorResponseDto(
+                "Service is overloaded, please retry later",
+                e.getMessage(),
+                LocalDateTime.now()
+        );
+
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(errorDto);
+    }
+
 }
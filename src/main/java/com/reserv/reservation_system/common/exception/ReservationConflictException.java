@@ -0,0 +1,21 @@
+package com.reserv.reservation_system.common.exception;
+
+import java.util.List;
+
+/**
+ * Approval rejected because the reservation overlaps already approved ones.
+ * Still an {@link IllegalStateException}, so clients keep getting 400.
+ */
+public class ReservationConflictException extends IllegalStateException {
+
+    private final List<Long> conflictingIds;
+
+    public ReservationConflictException(List<Long> conflictingIds) {
+        super("Cannot approve reservation beacause of conflicts: " + conflictingIds);
+        this.conflictingIds = List.copyOf(conflictingIds);
+    }
+
+    public List<Long> getConflictingIds() {
+        return conflictingIds;
+    }
+}
@@ -0,0 +1,27 @@
+package com.reserv.reservation_system.common.exception;
+
+/**
+ * Conditional update rejected because the reservation no longer has the version
+ * the client sent in {@code If-Match}. Answered with 412, the client should re-read.
+ */
+public class StaleReservationException extends IllegalStateException {
+
+    private final long expectedVersion;
+
+    private final long actualVersion;
+
+    public StaleReservationException(Long id, long expectedVersion, long actualVersion) {
+        super("Reservation id=" + id + " has version " + actualVersion
+            + ", expected " + expectedVersion);
+        this.expectedVersion = expectedVersion;
+        this.actualVersion = actualVersion;
+    }
+
+    public long getExpectedVersion() {
+        return expectedVersion;
+    }
+
+    public long getActualVersion() {
+        return actualVersion;
+    }
+}
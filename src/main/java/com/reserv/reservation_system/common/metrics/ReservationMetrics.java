@@ -0,0 +1,134 @@
+package com.reserv.reservation_system.common.metrics;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import com.reserv.reservation_system.common.exception.ReservationConflictException;
+import com.reserv.reservation_system.common.exception.StaleReservationException;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.OptimisticLockException;
+
+/**
+ * Timers for reservation operations tagged by operation and outcome,
+ * plus conflict counts and time spent waiting for room approval locks.
+ */
+@Component
+public class ReservationMetrics {
+
+    public static final String OPERATION_TIMER = "reservation.operation";
+    public static final String CONFLICTS_SUMMARY = "reservation.approval.conflicts";
+    public static final String LOCK_WAIT_TIMER = "reservation.approval.lock.wait";
+
+    private final MeterRegistry registry;
+    private final DistributionSummary singleConflicts;
+    private final DistributionSummary bulkConflicts;
+    private final Timer lockWait;
+
+    public ReservationMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.singleConflicts = conflictsSummary("single");
+        this.bulkConflicts = conflictsSummary("bulk");
+        this.lockWait = Timer.builder(LOCK_WAIT_TIMER)
+            .description("Time spent waiting for a room approval lock stripe")
+            .register(registry);
+    }
+
+    public <T> T record(String operation, Supplier<T> action) {
+        long start = System.nanoTime();
+        try {
+            T result = action.get();
+            stop(operation, "ok", start);
+            return result;
+        } catch (RuntimeException e) {
+            stop(operation, outcomeOf(e), start);
+            throw e;
+        }
+    }
+
+    /**
+     * Times an operation until the returned future completes.
+     */
+    public <T> CompletableFuture<T> recordAsync(
+        String operation,
+        Supplier<CompletableFuture<T>> action
+    ) {
+        long start = System.nanoTime();
+        CompletableFuture<T> future;
+        try {
+            future = action.get();
+        } catch (RuntimeException e) {
+            stop(operation, outcomeOf(e), start);
+            throw e;
+        }
+        return future.whenComplete((result, e) -> {
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            stop(operation, cause == null ? "ok"
+                : cause instanceof RuntimeException runtime ? outcomeOf(runtime) : "error", start);
+        });
+    }
+
+    public void record(String operation, Runnable action) {
+        record(operation, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    public void recordConflicts(int conflicts) {
+        singleConflicts.record(conflicts);
+    }
+
+    public void recordBulkConflicts(int conflicts) {
+        bulkConflicts.record(conflicts);
+    }
+
+    public void recordLockWait(long nanos) {
+        lockWait.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    static String outcomeOf(RuntimeException e) {
+        if (e instanceof EntityNotFoundException) {
+            return "not-found";
+        }
+        if (e instanceof ReservationConflictException
+                || e instanceof StaleReservationException
+                || e instanceof DataIntegrityViolationException
+                || e instanceof OptimisticLockException
+                || e instanceof ObjectOptimisticLockingFailureException) {
+            return "conflict";
+        }
+        if (e instanceof IllegalStateException) {
+            return "illegal-state";
+        }
+        if (e instanceof IllegalArgumentException) {
+            return "invalid";
+        }
+        return "error";
+    }
+
+    private void stop(String operation, String outcome, long start) {
+        Timer.builder(OPERATION_TIMER)
+            .description("Reservation operations by outcome")
+            .tag("operation", operation)
+            .tag("outcome", outcome)
+            .register(registry)
+            .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    private DistributionSummary conflictsSummary(String mode) {
+        return DistributionSummary.builder(CONFLICTS_SUMMARY)
+            .description("Approved reservations found overlapping an approval candidate")
+            .tag("mode", mode)
+            .register(registry);
+    }
+}
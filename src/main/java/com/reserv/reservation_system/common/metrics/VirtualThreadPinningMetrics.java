@@ -0,0 +1,42 @@
+package com.reserv.reservation_system.common.metrics;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * Records {@code jdk.VirtualThreadPinned} JFR events, i.e. virtual threads that blocked
+ * while pinned to their carrier (inside {@code synchronized} or native frames).
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMetrics implements MeterBinder, DisposableBean {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private final RecordingStream recordingStream = new RecordingStream();
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Timer pinned = Timer.builder("jvm.threads.virtual.pinned")
+            .description("Time virtual threads were blocked while pinned to a carrier thread")
+            .register(registry);
+
+        recordingStream.enable(PINNED_EVENT).withThreshold(Duration.ofMillis(20));
+        recordingStream.onEvent(PINNED_EVENT, event -> pinned.record(event.getDuration()));
+        recordingStream.startAsync();
+    }
+
+    @Override
+    public void destroy() {
+        recordingStream.close();
+    }
+}
@@ -0,0 +1,36 @@
+package com.reserv.reservation_system.common.web;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+
+/**
+ * Serves {@code application/cbor} next to JSON for clients that ask for it via
+ * {@code Accept} or send it as {@code Content-Type}. The bean replaces Spring's default
+ * CBOR converter in place, so it stays behind the JSON one and JSON remains the answer
+ * for {@code Accept: *}{@code /*} and requests without the header.
+ */
+@Configuration(proxyBeanMethods = false)
+public class CborConfiguration {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(
+        Jackson2ObjectMapperBuilder builder
+    ) {
+        return new MappingJackson2CborHttpMessageConverter(cborMapper(builder));
+    }
+
+    /**
+     * Same settings and modules as the JSON mapper, on a CBOR factory with epoch-day dates.
+     */
+    public static ObjectMapper cborMapper(Jackson2ObjectMapperBuilder builder) {
+        return builder
+            .factory(new CBORFactory())
+            .postConfigurer(mapper -> mapper.registerModule(new EpochDayModule()))
+            .build();
+    }
+}
@@ -0,0 +1,59 @@
+package com.reserv.reservation_system.common.web;
+
+import java.io.IOException;
+import java.time.LocalDate;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdScalarSerializer;
+
+/**
+ * Writes {@link LocalDate} as days since 1970-01-01, a one to five byte integer in CBOR
+ * instead of a ten character string. Reading also accepts ISO strings, so clients can
+ * switch date encoding independently of the content type.
+ */
+public class EpochDayModule extends SimpleModule {
+
+    public EpochDayModule() {
+        super("EpochDayModule");
+        addSerializer(LocalDate.class, new Serializer());
+        addDeserializer(LocalDate.class, new Deserializer());
+    }
+
+    private static class Serializer extends StdScalarSerializer<LocalDate> {
+
+        Serializer() {
+            super(LocalDate.class);
+        }
+
+        @Override
+        public void serialize(LocalDate value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+            gen.writeNumber(value.toEpochDay());
+        }
+    }
+
+    private static class Deserializer extends StdScalarDeserializer<LocalDate> {
+
+        Deserializer() {
+            super(LocalDate.class);
+        }
+
+        @Override
+        public LocalDate deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            if (p.currentToken() == JsonToken.VALUE_NUMBER_INT) {
+                return LocalDate.ofEpochDay(p.getLongValue());
+            }
+            if (p.currentToken() == JsonToken.VALUE_STRING) {
+                String text = p.getText().trim();
+                return text.isEmpty() ? null : LocalDate.parse(text);
+            }
+            return (LocalDate) ctxt.handleUnexpectedToken(LocalDate.class, p);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -12,12 +13,20 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.reserv.reservation_system.reservation.api.dto.BulkOperationRequest;
+import com.reserv.reservation_system.reservation.api.dto.BulkOperationResponse;
+import com.reserv.reservation_system.reservation.api.dto.ReservationPageResponse;
 import com.reserv.reservation_system.reservation.api.dto.ReservationRequest;
 import com.reserv.reservation_system.reservation.api.dto.ReservationResponse;
+import com.reserv.reservation_system.reservation.domain.Reservation;
+import com.reserv.reservation_system.reservation.domain.ReservationStatus;
+import com.reserv.reservation_system.reservation.persistence.ReservationSortKey;
+import com.reserv.reservation_system.reservation.service.ReservationBulkService;
 import com.reserv.reservation_system.reservation.service.ReservationMapper;
 import com.reserv.reservation_system.reservation.service.ReservationSearchFilter;
 import com.reserv.reservation_system.reservation.service.ReservationService;
@@ -32,30 +41,37 @@ public class ReservationController {
 
 
     private final ReservationService reservationService;
+    private final ReservationBulkService bulkService;
     private final ReservationMapper mapper;
 
     public ReservationController(
         ReservationService reservationService,
+        ReservationBulkService bulkService,
         ReservationMapper mapper
     ) {
         this.reservationService = reservationService;
+        this.bulkService = bulkService;
         this.mapper = mapper;
     }
 
+    /**
+     * Answers {@code If-None-Match} with 304 and no body: Spring compares the ETag
+     * before the response is written.
+     */
     @GetMapping("/{id}")
     public ResponseEntity<ReservationResponse>  getReservationById(@PathVariable("id") Long id) {
         
         log.info("Called getReservationById() with id {}", id);
 
-        return ResponseEntity.ok(
-            mapper.toResponse(reservationService.getReservationById(id))
-        );
+        return withETag(ResponseEntity.ok(), reservationService.getReservationById(id));
     }
 
     @GetMapping
     public ResponseEntity<List<ReservationResponse>> getAllReservations(
             @RequestParam(name = "roomId", required = false) Long roomId,
             @RequestParam(name = "userId", required = false) Long userId,
+            @RequestParam(name = "status", required = false) ReservationStatus status,
+            @RequestParam(name = "sort", required = false) ReservationSortKey sort,
             @RequestParam(name = "pageSize", required = false) Integer pageSize,
             @RequestParam(name = "pageNumber", required = false) Integer pageNumber
     ) {
@@ -63,8 +79,11 @@ public class ReservationController {
         var filter = new ReservationSearchFilter(
                 roomId, 
                 userId, 
+                status,
                 pageSize, 
-                pageNumber);
+                pageNumber,
+                sort,
+                null);
 
         List<ReservationResponse> response = reservationService.searchAllByFilter(filter)
                 .stream()
@@ -73,6 +92,34 @@ public class ReservationController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping(params = "cursor")
+    public ResponseEntity<ReservationPageResponse> getReservationsPage(
+            @RequestParam(name = "roomId", required = false) Long roomId,
+            @RequestParam(name = "userId", required = false) Long userId,
+            @RequestParam(name = "status", required = false) ReservationStatus status,
+            @RequestParam(name = "sort", required = false) ReservationSortKey sort,
+            @RequestParam(name = "pageSize", required = false) Integer pageSize,
+            @RequestParam(name = "cursor") String cursor
+    ) {
+        log.info("Called getReservationsPage() with cursor {}", cursor);
+        var filter = new ReservationSearchFilter(
+                roomId, 
+                userId, 
+                status,
+                pageSize, 
+                null,
+                sort,
+                cursor);
+
+        var slice = reservationService.searchSliceByFilter(filter);
+        var response = new ReservationPageResponse(
+                slice.items().stream()
+                    .map(mapper::toResponse)
+                    .toList(),
+                slice.nextCursor());
+        return ResponseEntity.ok(response);
+    }
+
     @PostMapping
     public ResponseEntity<ReservationResponse>  createReservation(
         @RequestBody @Valid ReservationRequest request
@@ -80,26 +127,26 @@ public class ReservationController {
         
         log.info("Called createReservation");
 
-        ReservationResponse response = mapper.toResponse(
+        return withETag(
+            ResponseEntity.status(HttpStatus.CREATED),
             reservationService.createReservation(mapper.toDomain(request))
         );
-
-        return ResponseEntity.status(HttpStatus.CREATED)
-            .body(response);
     }
 
     @PutMapping("/{id}")
     public ResponseEntity<ReservationResponse> updateReservation(
         @PathVariable("id") Long id,
+        @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
         @RequestBody @Valid ReservationRequest request
     ) {
         log.info("Called updateReservation with id {} for reservation {}",
             id, request);
 
-        ReservationResponse response = mapper.toResponse(
-            reservationService.updateReservation(id, mapper.toDomain(request))
+        return withETag(
+            ResponseEntity.ok(),
+            reservationService.updateReservation(
+                id, mapper.toDomain(request), ReservationETag.parseIfMatch(ifMatch))
         );
-        return ResponseEntity.ok(response);
     }
 
     @DeleteMapping("/{id}/cancel")
@@ -118,8 +165,38 @@ public class ReservationController {
     ) {
         log.info("Called approveReservation with id {}", id);
 
+        return withETag(ResponseEntity.ok(), reservationService.approveReservation(id));
+    }
+
+    @PostMapping("/approve")
+    public ResponseEntity<BulkOperationResponse> approveReservations(
+        @RequestBody @Valid BulkOperationRequest request
+    ) {
+        log.info("Called approveReservations for {} ids", request.ids().size());
+
+        return ResponseEntity.ok(
+            new BulkOperationResponse(bulkService.approveReservations(request.ids()))
+        );
+    }
+
+    @PostMapping("/cancel")
+    public ResponseEntity<BulkOperationResponse> cancelReservations(
+        @RequestBody @Valid BulkOperationRequest request
+    ) {
+        log.info("Called cancelReservations for {} ids", request.ids().size());
+
         return ResponseEntity.ok(
-            mapper.toResponse(reservationService.approveReservation(id))
+            new BulkOperationResponse(bulkService.cancelReservations(request.ids()))
         );
     }
+
+    private ResponseEntity<ReservationResponse> withETag(
+        ResponseEntity.BodyBuilder builder,
+        Reservation reservation
+    ) {
+        if (reservation.version() != null) {
+            builder.eTag(ReservationETag.of(reservation.version()));
+        }
+        return builder.body(mapper.toResponse(reservation));
+    }
 }
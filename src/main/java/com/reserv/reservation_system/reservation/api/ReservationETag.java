@@ -0,0 +1,33 @@
+package com.reserv.reservation_system.reservation.api;
+
+/**
+ * Strong ETag of a single reservation, the quoted value of its version column.
+ */
+final class ReservationETag {
+
+    private ReservationETag() {
+    }
+
+    static String of(Long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * Version expected by an {@code If-Match} header, {@code null} when the header
+     * is absent or {@code *} (any current representation).
+     */
+    static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String value = ifMatch.trim();
+        if (value.length() < 3 || !value.startsWith("\"") || !value.endsWith("\"")) {
+            throw new IllegalArgumentException("If-Match must be a single strong ETag, got " + ifMatch);
+        }
+        try {
+            return Long.parseLong(value.substring(1, value.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Unknown ETag " + ifMatch);
+        }
+    }
+}
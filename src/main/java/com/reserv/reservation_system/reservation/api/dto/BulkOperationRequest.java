@@ -0,0 +1,13 @@
+package com.reserv.reservation_system.reservation.api.dto;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+public record BulkOperationRequest(
+    @NotEmpty @Size(max = 1000) List<@NotNull Long> ids
+) {
+    
+}
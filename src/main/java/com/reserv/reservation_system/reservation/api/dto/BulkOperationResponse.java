@@ -0,0 +1,9 @@
+package com.reserv.reservation_system.reservation.api.dto;
+
+import java.util.List;
+
+public record BulkOperationResponse(
+    List<BulkOperationResult> results
+) {
+    
+}
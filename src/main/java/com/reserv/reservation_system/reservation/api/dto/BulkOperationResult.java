@@ -0,0 +1,19 @@
+package com.reserv.reservation_system.reservation.api.dto;
+
+import com.reserv.reservation_system.reservation.domain.ReservationStatus;
+
+public record BulkOperationResult(
+    Long id,
+    boolean success,
+    ReservationStatus status,
+    String errorMessage
+) {
+
+    public static BulkOperationResult success(Long id, ReservationStatus status) {
+        return new BulkOperationResult(id, true, status, null);
+    }
+
+    public static BulkOperationResult failure(Long id, ReservationStatus status, String errorMessage) {
+        return new BulkOperationResult(id, false, status, errorMessage);
+    }
+}
@@ -0,0 +1,10 @@
+package com.reserv.reservation_system.reservation.api.dto;
+
+import java.util.List;
+
+public record ReservationPageResponse(
+    List<ReservationResponse> items,
+    String nextCursor
+) {
+    
+}
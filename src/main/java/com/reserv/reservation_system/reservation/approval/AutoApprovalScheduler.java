@@ -0,0 +1,132 @@
+package com.reserv.reservation_system.reservation.approval;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.reserv.reservation_system.reservation.domain.ReservationStatus;
+import com.reserv.reservation_system.reservation.persistence.ReservationRepository;
+import com.reserv.reservation_system.reservation.service.PendingResolution;
+import com.reserv.reservation_system.reservation.service.ReservationBulkService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Periodically resolves pending reservations room by room: the oldest requests that fit
+ * are approved, the ones conflicting with them or with approved reservations are rejected.
+ * Rooms are resolved in parallel on a fixed pool of {@code workers}, at most
+ * {@code max-rooms} per run; the next run continues after the last room of this one.
+ */
+@Component
+public class AutoApprovalScheduler implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(AutoApprovalScheduler.class);
+
+    private final ReservationRepository repository;
+    private final ReservationBulkService bulkService;
+    private final boolean enabled;
+    private final int maxRooms;
+    private final int batchSize;
+    private final ExecutorService workers;
+
+    private final Timer runs;
+    private final Counter approved;
+    private final Counter rejected;
+    private final Counter failedRooms;
+
+    private long afterRoomId;
+
+    public AutoApprovalScheduler(
+        ReservationRepository repository,
+        ReservationBulkService bulkService,
+        MeterRegistry registry,
+        @Value("${reservation.auto-approval.enabled:false}") boolean enabled,
+        @Value("${reservation.auto-approval.workers:4}") int workers,
+        @Value("${reservation.auto-approval.max-rooms:500}") int maxRooms,
+        @Value("${reservation.auto-approval.batch-size:1000}") int batchSize
+    ) {
+        this.repository = repository;
+        this.bulkService = bulkService;
+        this.enabled = enabled;
+        this.maxRooms = maxRooms;
+        this.batchSize = batchSize;
+        // One run never queues more than maxRooms tasks.
+        this.workers = new ThreadPoolExecutor(workers, workers, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(maxRooms),
+            Thread.ofPlatform().name("auto-approval-", 0).daemon().factory());
+
+        this.runs = Timer.builder("reservation.auto-approval.run").register(registry);
+        this.approved = registry.counter("reservation.auto-approval.reservations", "result", "approved");
+        this.rejected = registry.counter("reservation.auto-approval.reservations", "result", "rejected");
+        this.failedRooms = registry.counter("reservation.auto-approval.failed.rooms");
+    }
+
+    @Scheduled(
+        initialDelayString = "${reservation.auto-approval.interval:1m}",
+        fixedDelayString = "${reservation.auto-approval.interval:1m}"
+    )
+    public void run() {
+        if (enabled) {
+            runs.record(this::resolveNextRooms);
+        }
+    }
+
+    /**
+     * Returns one resolution per room, failed rooms count as nothing resolved.
+     */
+    List<PendingResolution> resolveNextRooms() {
+        List<Long> roomIds = repository.findRoomIdsWithStatusAfter(
+            ReservationStatus.PENDING, afterRoomId, Limit.of(maxRooms)
+        );
+        afterRoomId = roomIds.size() < maxRooms ? 0 : roomIds.getLast();
+        if (roomIds.isEmpty()) {
+            return List.of();
+        }
+
+        long start = System.nanoTime();
+        List<CompletableFuture<PendingResolution>> futures = roomIds.stream()
+            .map(roomId -> CompletableFuture
+                .supplyAsync(() -> bulkService.resolvePending(roomId, batchSize), workers)
+                .exceptionally(e -> {
+                    // Most likely a concurrent approval on another node hit the exclusion
+                    // constraint; the room is retried on the next pass.
+                    log.warn("Auto-approval failed for room {}", roomId, e);
+                    failedRooms.increment();
+                    return new PendingResolution(roomId, 0, 0);
+                }))
+            .toList();
+
+        List<PendingResolution> resolutions = futures.stream().map(CompletableFuture::join).toList();
+        int approvedTotal = resolutions.stream().mapToInt(PendingResolution::approved).sum();
+        int rejectedTotal = resolutions.stream().mapToInt(PendingResolution::rejected).sum();
+        approved.increment(approvedTotal);
+        rejected.increment(rejectedTotal);
+
+        log.info("Auto-approval resolved {} rooms in {} ms: approved={}, rejected={}",
+            roomIds.size(), Duration.ofNanos(System.nanoTime() - start).toMillis(),
+            approvedTotal, rejectedTotal);
+        return resolutions;
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        workers.shutdown();
+        if (!workers.awaitTermination(10, TimeUnit.SECONDS)) {
+            workers.shutdownNow();
+        }
+    }
+}
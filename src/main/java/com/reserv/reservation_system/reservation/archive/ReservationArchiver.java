@@ -0,0 +1,118 @@
+package com.reserv.reservation_system.reservation.archive;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.reserv.reservation_system.reservation.availability.ApprovedReservationIndex;
+import com.reserv.reservation_system.reservation.domain.ReservationStatus;
+import com.reserv.reservation_system.reservation.persistence.ReservationInterval;
+import com.reserv.reservation_system.reservation.persistence.ReservationJdbcRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Keeps {@code reservations} small: reservations that ended more than {@code retention} ago
+ * are moved to {@code reservations_archive} in batches, one transaction each. Cancelled and
+ * rejected ones wait for the same retention, so cancelling or approving them again still
+ * gets the usual 400 instead of a 404. Conflict checks and the availability index only see the live
+ * table, reads by id and search look into both.
+ */
+@Component
+public class ReservationArchiver {
+
+    private static final Logger log = LoggerFactory.getLogger(ReservationArchiver.class);
+
+    private final ReservationJdbcRepository jdbcRepository;
+    private final ApprovedReservationIndex approvedIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final boolean enabled;
+    private final Duration retention;
+    private final int batchSize;
+
+    private final Counter archived;
+
+    @Autowired
+    public ReservationArchiver(
+        ReservationJdbcRepository jdbcRepository,
+        ApprovedReservationIndex approvedIndex,
+        PlatformTransactionManager transactionManager,
+        MeterRegistry registry,
+        @Value("${reservation.archive.enabled:true}") boolean enabled,
+        @Value("${reservation.archive.retention:30d}") Duration retention,
+        @Value("${reservation.archive.batch-size:1000}") int batchSize
+    ) {
+        this(jdbcRepository, approvedIndex, transactionManager, registry,
+            Clock.systemDefaultZone(), enabled, retention, batchSize);
+    }
+
+    ReservationArchiver(
+        ReservationJdbcRepository jdbcRepository,
+        ApprovedReservationIndex approvedIndex,
+        PlatformTransactionManager transactionManager,
+        MeterRegistry registry,
+        Clock clock,
+        boolean enabled,
+        Duration retention,
+        int batchSize
+    ) {
+        this.jdbcRepository = jdbcRepository;
+        this.approvedIndex = approvedIndex;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+        this.enabled = enabled;
+        this.retention = retention;
+        this.batchSize = batchSize;
+        this.archived = Counter.builder("reservation.archive.moved")
+            .description("Reservations moved to the archive table")
+            .register(registry);
+    }
+
+    @Scheduled(
+        initialDelayString = "${reservation.archive.interval:1h}",
+        fixedDelayString = "${reservation.archive.interval:1h}"
+    )
+    public void archive() {
+        if (!enabled) {
+            return;
+        }
+        LocalDate endedBefore = LocalDate.now(clock).minusDays(retention.toDays());
+        int total = 0;
+        try {
+            int moved;
+            do {
+                moved = transactionTemplate.execute(status -> archiveBatch(endedBefore));
+                archived.increment(moved);
+                total += moved;
+            } while (moved == batchSize);
+        } catch (RuntimeException e) {
+            log.warn("Archiving stopped after {} reservations, will continue on the next run", total, e);
+            return;
+        }
+        if (total > 0) {
+            log.info("Archived {} reservations ended before {}", total, endedBefore);
+        }
+    }
+
+    private int archiveBatch(LocalDate endedBefore) {
+        List<ReservationInterval> moved = jdbcRepository.archiveBatch(endedBefore, batchSize);
+        for (ReservationInterval interval : moved) {
+            if (interval.status() == ReservationStatus.APPROVED) {
+                approvedIndex.removeAfterCommit(interval.id(), interval.roomId());
+            }
+        }
+        return moved.size();
+    }
+}
@@ -0,0 +1,192 @@
+package com.reserv.reservation_system.reservation.availability;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.reserv.reservation_system.common.datasource.DataSourceRouting;
+import com.reserv.reservation_system.reservation.domain.ReservationStatus;
+import com.reserv.reservation_system.reservation.persistence.ReservationInterval;
+import com.reserv.reservation_system.reservation.persistence.ReservationRepository;
+
+/**
+ * In-process index of APPROVED reservations keyed by room id.
+ * Loaded on startup and updated after commit of approve/cancel,
+ * so availability checks don't need a database round trip.
+ */
+@Component
+public class ApprovedReservationIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(ApprovedReservationIndex.class);
+
+    private static final int MAX_REPORTED_IDS = 100;
+
+    private final ReservationRepository repository;
+    private final boolean enabled;
+
+    private final ReadWriteLock rebuildLock = new ReentrantReadWriteLock();
+    private volatile Map<Long, RoomIntervals> rooms = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+
+    public ApprovedReservationIndex(
+        ReservationRepository repository,
+        @Value("${reservation.availability.index.enabled:true}") boolean enabled
+    ) {
+        this.repository = repository;
+        this.enabled = enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    public List<Long> findConflicts(Long roomId, LocalDate startDate, LocalDate endDate) {
+        RoomIntervals intervals = rooms.get(roomId);
+        if (intervals == null) {
+            return List.of();
+        }
+        return intervals.conflicts(startDate, endDate);
+    }
+
+    public int rebuild() {
+        rebuildLock.writeLock().lock();
+        try {
+            Map<Long, List<long[]>> byRoom = new HashMap<>();
+            List<ReservationInterval> approved = findApprovedOnPrimary();
+            for (ReservationInterval interval : approved) {
+                byRoom.computeIfAbsent(interval.roomId(), it -> new ArrayList<>())
+                    .add(new long[] {
+                        interval.id(),
+                        interval.startDate().toEpochDay(),
+                        interval.endDate().toEpochDay()
+                    });
+            }
+
+            Map<Long, RoomIntervals> rebuilt = new ConcurrentHashMap<>(byRoom.size() * 2);
+            byRoom.forEach((roomId, intervals) -> rebuilt.put(roomId, RoomIntervals.of(intervals)));
+
+            rooms = rebuilt;
+            ready = true;
+            log.info("Availability index rebuilt: rooms={}, reservations={}",
+                rebuilt.size(), approved.size());
+            return approved.size();
+        } finally {
+            rebuildLock.writeLock().unlock();
+        }
+    }
+
+    public IndexVerificationResponse verify() {
+        Map<Long, ReservationInterval> persisted = new HashMap<>();
+        for (ReservationInterval interval : findApprovedOnPrimary()) {
+            persisted.put(interval.id(), interval);
+        }
+
+        List<Long> stale = new ArrayList<>();
+        int indexed = 0;
+        Set<Long> matched = new HashSet<>();
+        for (var entry : rooms.entrySet()) {
+            RoomIntervals intervals = entry.getValue();
+            for (int i = 0; i < intervals.size(); i++) {
+                indexed++;
+                long id = intervals.idAt(i);
+                ReservationInterval expected = persisted.get(id);
+                boolean same = expected != null
+                    && expected.roomId().equals(entry.getKey())
+                    && expected.startDate().equals(intervals.startAt(i))
+                    && expected.endDate().equals(intervals.endAt(i));
+                if (same) {
+                    matched.add(id);
+                } else if (stale.size() < MAX_REPORTED_IDS) {
+                    stale.add(id);
+                }
+            }
+        }
+
+        List<Long> missing = persisted.keySet().stream()
+            .filter(id -> !matched.contains(id))
+            .limit(MAX_REPORTED_IDS)
+            .toList();
+
+        boolean consistent = stale.isEmpty() && missing.isEmpty();
+        if (!consistent) {
+            log.warn("Availability index is out of sync: missing={}, stale={}", missing, stale);
+        }
+        return new IndexVerificationResponse(indexed, persisted.size(), missing, stale, consistent);
+    }
+
+    private List<ReservationInterval> findApprovedOnPrimary() {
+        return DataSourceRouting.onPrimary(
+            () -> repository.findAllIntervalsByStatus(ReservationStatus.APPROVED));
+    }
+
+    public void put(Long reservationId, Long roomId, LocalDate startDate, LocalDate endDate) {
+        rebuildLock.readLock().lock();
+        try {
+            rooms.compute(roomId, (key, intervals) ->
+                (intervals == null ? RoomIntervals.EMPTY : intervals)
+                    .with(reservationId, startDate, endDate));
+        } finally {
+            rebuildLock.readLock().unlock();
+        }
+    }
+
+    public void remove(Long reservationId, Long roomId) {
+        rebuildLock.readLock().lock();
+        try {
+            rooms.computeIfPresent(roomId, (key, intervals) -> {
+                RoomIntervals updated = intervals.without(reservationId);
+                return updated.isEmpty() ? null : updated;
+            });
+        } finally {
+            rebuildLock.readLock().unlock();
+        }
+    }
+
+    public void putAfterCommit(Long reservationId, Long roomId, LocalDate startDate, LocalDate endDate) {
+        if (enabled) {
+            afterCommit(() -> put(reservationId, roomId, startDate, endDate));
+        }
+    }
+
+    public void removeAfterCommit(Long reservationId, Long roomId) {
+        if (enabled) {
+            afterCommit(() -> remove(reservationId, roomId));
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,19 @@
+package com.reserv.reservation_system.reservation.availability;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+public record BatchAvailabilityRequest(
+    @Size(max = 500)
+    List<@Valid @NotNull CheckAvailabilityRequest> items,
+    @Size(max = 500)
+    List<@NotNull Long> roomIds,
+    LocalDate startDate,
+    LocalDate endDate
+) {
+    
+}
@@ -0,0 +1,9 @@
+package com.reserv.reservation_system.reservation.availability;
+
+import java.util.List;
+
+public record BatchAvailabilityResponse(
+    List<RoomAvailability> results
+) {
+    
+}
@@ -0,0 +1,12 @@
+package com.reserv.reservation_system.reservation.availability;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record CalendarResponse(
+    LocalDate from,
+    LocalDate to,
+    List<RoomCalendar> rooms
+) {
+    
+}
@@ -0,0 +1,122 @@
+package com.reserv.reservation_system.reservation.availability;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.reserv.reservation_system.common.datasource.DataSourceRouting;
+import com.reserv.reservation_system.reservation.domain.ReservationStatus;
+import com.reserv.reservation_system.reservation.persistence.ReservationRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Conflict lookups against the database, used while the availability index is not ready.
+ * Concurrent lookups of the same room and dates share one in-flight query, and queries run
+ * on a fixed pool of {@code max-concurrent} threads, so a burst of identical checks costs
+ * one query and never more than that many connections. When the pool's queue is full the
+ * lookup fails with {@link RejectedExecutionException}.
+ */
+@Component
+public class ConflictLookups implements DisposableBean {
+
+    /**
+     * Lookups of a request pinned to the primary don't join replica queries.
+     */
+    private record Key(Long roomId, LocalDate startDate, LocalDate endDate, boolean primary) {
+    }
+
+    private final ReservationRepository repository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ThreadPoolExecutor executor;
+    private final ConcurrentMap<Key, CompletableFuture<List<Long>>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter queries;
+    private final Counter coalesced;
+    private final Counter rejected;
+
+    public ConflictLookups(
+        ReservationRepository repository,
+        PlatformTransactionManager transactionManager,
+        MeterRegistry registry,
+        @Value("${reservation.availability.lookup.max-concurrent:8}") int maxConcurrent,
+        @Value("${reservation.availability.lookup.queue-capacity:1000}") int queueCapacity
+    ) {
+        this.repository = repository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.executor = new ThreadPoolExecutor(maxConcurrent, maxConcurrent, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            Thread.ofPlatform().name("availability-lookup-", 0).daemon().factory());
+
+        this.queries = registry.counter("reservation.availability.lookups", "result", "query");
+        this.coalesced = registry.counter("reservation.availability.lookups", "result", "coalesced");
+        this.rejected = registry.counter("reservation.availability.lookups", "result", "rejected");
+    }
+
+    /**
+     * Ids of approved reservations overlapping the dates. Every caller gets its own copy
+     * of the shared future, so cancelling one request doesn't cancel the others.
+     */
+    public CompletableFuture<List<Long>> find(Long roomId, LocalDate startDate, LocalDate endDate) {
+        var key = new Key(roomId, startDate, endDate, DataSourceRouting.isPinnedToPrimary());
+        var created = new CompletableFuture<List<Long>>();
+        CompletableFuture<List<Long>> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            coalesced.increment();
+            return existing.copy();
+        }
+
+        try {
+            executor.execute(() -> run(key, created));
+            queries.increment();
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            inFlight.remove(key, created);
+            created.completeExceptionally(e);
+        }
+        return created.copy();
+    }
+
+    private void run(Key key, CompletableFuture<List<Long>> future) {
+        List<Long> conflicts;
+        try {
+            conflicts = key.primary()
+                ? DataSourceRouting.onPrimary(() -> query(key))
+                : query(key);
+        } catch (RuntimeException e) {
+            inFlight.remove(key, future);
+            future.completeExceptionally(e);
+            return;
+        }
+        // Removed before completing: a lookup arriving from now on starts a fresh query.
+        inFlight.remove(key, future);
+        future.complete(conflicts);
+    }
+
+    private List<Long> query(Key key) {
+        return readOnlyTransaction.execute(status -> repository.findConflictReservationIds(
+            key.roomId(),
+            key.startDate(),
+            key.endDate(),
+            ReservationStatus.APPROVED));
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
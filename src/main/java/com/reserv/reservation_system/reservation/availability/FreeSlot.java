@@ -0,0 +1,14 @@
+package com.reserv.reservation_system.reservation.availability;
+
+import java.time.LocalDate;
+
+/**
+ * Maximal free gap {@code [startDate, endDate)} of a room inside the searched window,
+ * long enough for the requested number of nights.
+ */
+public record FreeSlot(
+    LocalDate startDate,
+    LocalDate endDate
+) {
+    
+}
@@ -0,0 +1,56 @@
+package com.reserv.reservation_system.reservation.availability;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import com.reserv.reservation_system.reservation.persistence.ReservationInterval;
+
+/**
+ * Free gaps of one room between approved intervals, with the same half-open
+ * {@code [startDate, endDate)} semantics as {@code findConflictReservationIds}:
+ * a stay may start on the day another one ends.
+ */
+final class FreeSlotFinder {
+
+    private FreeSlotFinder() {
+    }
+
+    /**
+     * @param approved approved intervals of a single room overlapping {@code [from, to)}
+     * @return at most {@code limit} earliest gaps of at least {@code nights} nights
+     */
+    static List<FreeSlot> find(
+        List<ReservationInterval> approved,
+        LocalDate from,
+        LocalDate to,
+        int nights,
+        int limit
+    ) {
+        List<ReservationInterval> sorted = new ArrayList<>(approved);
+        sorted.sort(Comparator.comparing(ReservationInterval::startDate));
+
+        List<FreeSlot> slots = new ArrayList<>(Math.min(limit, sorted.size() + 1));
+        long freeFrom = from.toEpochDay();
+        long end = to.toEpochDay();
+        for (ReservationInterval interval : sorted) {
+            if (slots.size() == limit || freeFrom >= end) {
+                return slots;
+            }
+            long busyFrom = Math.min(interval.startDate().toEpochDay(), end);
+            if (busyFrom - freeFrom >= nights) {
+                slots.add(slot(freeFrom, busyFrom));
+            }
+            freeFrom = Math.max(freeFrom, interval.endDate().toEpochDay());
+        }
+        if (slots.size() < limit && end - freeFrom >= nights) {
+            slots.add(slot(freeFrom, end));
+        }
+        return slots;
+    }
+
+    private static FreeSlot slot(long startDay, long endDay) {
+        return new FreeSlot(LocalDate.ofEpochDay(startDay), LocalDate.ofEpochDay(endDay));
+    }
+}
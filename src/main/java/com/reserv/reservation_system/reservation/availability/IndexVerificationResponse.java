@@ -0,0 +1,13 @@
+package com.reserv.reservation_system.reservation.availability;
+
+import java.util.List;
+
+public record IndexVerificationResponse(
+    int indexedCount,
+    int persistedCount,
+    List<Long> missingIds,
+    List<Long> staleIds,
+    boolean consistent
+) {
+    
+}
@@ -0,0 +1,94 @@
+package com.reserv.reservation_system.reservation.availability;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.reserv.reservation_system.reservation.domain.ReservationStatus;
+import com.reserv.reservation_system.reservation.persistence.ReservationInterval;
+
+/**
+ * Per-day occupancy of rooms over {@code [from, to)} built with one sweep:
+ * every interval adds +1/-1 at its clipped bounds, prefix sums give the number
+ * of reservations per day, and equal consecutive days collapse into runs.
+ * An APPROVED reservation wins over PENDING ones on the same day.
+ */
+final class OccupancyCalendar {
+
+    private OccupancyCalendar() {
+    }
+
+    static List<RoomCalendar> build(
+        List<Long> roomIds,
+        LocalDate from,
+        LocalDate to,
+        List<ReservationInterval> intervals
+    ) {
+        int days = (int) (to.toEpochDay() - from.toEpochDay());
+        long origin = from.toEpochDay();
+
+        List<Long> rooms = roomIds.stream().distinct().toList();
+        Map<Long, Integer> slots = new HashMap<>(rooms.size() * 2);
+        for (int i = 0; i < rooms.size(); i++) {
+            slots.put(rooms.get(i), i);
+        }
+        int[][] approved = new int[rooms.size()][];
+        int[][] pending = new int[rooms.size()][];
+
+        for (ReservationInterval interval : intervals) {
+            Integer slot = slots.get(interval.roomId());
+            if (slot == null) {
+                continue;
+            }
+            int start = (int) Math.max(0, interval.startDate().toEpochDay() - origin);
+            int end = (int) Math.min(days, interval.endDate().toEpochDay() - origin);
+            if (start >= end) {
+                continue;
+            }
+            int[][] deltas = interval.status() == ReservationStatus.APPROVED ? approved : pending;
+            if (deltas[slot] == null) {
+                deltas[slot] = new int[days + 1];
+            }
+            deltas[slot][start]++;
+            deltas[slot][end]--;
+        }
+
+        List<RoomCalendar> result = new ArrayList<>(rooms.size());
+        for (int slot = 0; slot < rooms.size(); slot++) {
+            result.add(new RoomCalendar(rooms.get(slot), runs(approved[slot], pending[slot], days)));
+        }
+        return result;
+    }
+
+    private static List<OccupancyRun> runs(int[] approved, int[] pending, int days) {
+        if (approved == null && pending == null) {
+            return List.of();
+        }
+
+        List<OccupancyRun> runs = new ArrayList<>();
+        int approvedCount = 0;
+        int pendingCount = 0;
+        ReservationStatus current = null;
+        int runStart = 0;
+        for (int day = 0; day <= days; day++) {
+            ReservationStatus state = null;
+            if (day < days) {
+                approvedCount += approved != null ? approved[day] : 0;
+                pendingCount += pending != null ? pending[day] : 0;
+                state = approvedCount > 0 ? ReservationStatus.APPROVED
+                    : pendingCount > 0 ? ReservationStatus.PENDING
+                    : null;
+            }
+            if (state != current) {
+                if (current != null) {
+                    runs.add(new OccupancyRun(runStart, day - runStart, current));
+                }
+                current = state;
+                runStart = day;
+            }
+        }
+        return runs;
+    }
+}
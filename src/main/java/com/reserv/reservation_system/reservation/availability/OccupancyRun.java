@@ -0,0 +1,15 @@
+package com.reserv.reservation_system.reservation.availability;
+
+import com.reserv.reservation_system.reservation.domain.ReservationStatus;
+
+/**
+ * {@code days} consecutive days starting {@code offset} days after the calendar's
+ * {@code from} date, occupied by reservations with {@code status}.
+ */
+public record OccupancyRun(
+    int offset,
+    int days,
+    ReservationStatus status
+) {
+    
+}
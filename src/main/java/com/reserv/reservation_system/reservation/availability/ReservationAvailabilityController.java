@@ -1,10 +1,18 @@
 package com.reserv.reservation_system.reservation.availability;
 
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import jakarta.validation.Valid;
@@ -16,31 +24,95 @@ public class ReservationAvailabilityController {
     private static final Logger log = LoggerFactory.getLogger(ReservationAvailabilityController.class);
 
     private final ReservationAvailabilityService service;
+    private final ApprovedReservationIndex index;
 
-    public ReservationAvailabilityController(ReservationAvailabilityService service) {
+    public ReservationAvailabilityController(
+        ReservationAvailabilityService service,
+        ApprovedReservationIndex index
+    ) {
         this.service = service;
+        this.index = index;
     }
 
+    /**
+     * Completes asynchronously when the check needs the database, the request thread
+     * is released while the lookup waits for a free slot.
+     */
     @PostMapping("/check")
-    public ResponseEntity<CheckAvailabilityResponse> checkAvailability(
+    public CompletableFuture<ResponseEntity<CheckAvailabilityResponse>> checkAvailability(
         @Valid CheckAvailabilityRequest request
     ) {
         log.info("Called method checkAvailability: request={}", request);
 
-        boolean isAvailable = service.isReservationAvailable(
+        return service.isReservationAvailable(
                 request.roomId(), 
                 request.startDate(), 
                 request.endDate()
-        );
-        
-        var message = isAvailable 
-                ? "Room is available for reservation"
-                : "Room is not available for reservation";
-        var status = isAvailable
-                ? AvailabilityStatus.AVAILABLE
-                : AvailabilityStatus.RESERVED;
-                
-        var response = new CheckAvailabilityResponse(message, status);
+        ).thenApply(isAvailable -> {
+            var message = isAvailable 
+                    ? "Room is available for reservation"
+                    : "Room is not available for reservation";
+            var status = isAvailable
+                    ? AvailabilityStatus.AVAILABLE
+                    : AvailabilityStatus.RESERVED;
+
+            return ResponseEntity.ok(new CheckAvailabilityResponse(message, status));
+        });
+    }
+
+    @PostMapping("/check/batch")
+    public ResponseEntity<BatchAvailabilityResponse> checkAvailabilityBatch(
+        @RequestBody @Valid BatchAvailabilityRequest request
+    ) {
+        log.info("Called method checkAvailabilityBatch: items={}, roomIds={}",
+                request.items() != null ? request.items().size() : 0,
+                request.roomIds() != null ? request.roomIds().size() : 0);
+
+        var response = new BatchAvailabilityResponse(service.checkAvailability(request));
         return ResponseEntity.ok(response);
     }
+
+    @GetMapping("/calendar")
+    public ResponseEntity<CalendarResponse> calendar(
+        @RequestParam(name = "roomIds") List<Long> roomIds,
+        @RequestParam(name = "from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam(name = "to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+        @RequestParam(name = "includePending", defaultValue = "false") boolean includePending
+    ) {
+        log.info("Called method calendar: rooms={}, from={}, to={}", roomIds.size(), from, to);
+
+        return ResponseEntity.ok(service.calendar(roomIds, from, to, includePending));
+    }
+
+    @GetMapping("/slots")
+    public ResponseEntity<SlotSearchResponse> findFreeSlots(
+        @RequestParam(name = "roomIds", required = false) List<Long> roomIds,
+        @RequestParam(name = "from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam(name = "to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+        @RequestParam(name = "nights") int nights,
+        @RequestParam(name = "limit", defaultValue = "1") int limit,
+        @RequestParam(name = "pageSize", defaultValue = "100") int pageSize,
+        @RequestParam(name = "cursor", required = false) Long cursor
+    ) {
+        log.info("Called method findFreeSlots: nights={}, from={}, to={}, cursor={}",
+                nights, from, to, cursor);
+
+        var query = new SlotSearchQuery(roomIds, from, to, nights, limit, pageSize, cursor);
+        return ResponseEntity.ok(service.findFreeSlots(query));
+    }
+
+    @PostMapping("/index/rebuild")
+    public ResponseEntity<IndexVerificationResponse> rebuildIndex() {
+        log.info("Called method rebuildIndex");
+
+        index.rebuild();
+        return ResponseEntity.ok(index.verify());
+    }
+
+    @GetMapping("/index/verify")
+    public ResponseEntity<IndexVerificationResponse> verifyIndex() {
+        log.info("Called method verifyIndex");
+
+        return ResponseEntity.ok(index.verify());
+    }
 }
@@ -1,42 +1,284 @@
 package com.reserv.reservation_system.reservation.availability;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.reserv.reservation_system.common.metrics.ReservationMetrics;
 import com.reserv.reservation_system.reservation.domain.ReservationStatus;
+import com.reserv.reservation_system.reservation.persistence.ReservationInterval;
+import com.reserv.reservation_system.reservation.persistence.ReservationJdbcRepository;
 import com.reserv.reservation_system.reservation.persistence.ReservationRepository;
+import com.reserv.reservation_system.reservation.persistence.RoomDateRange;
 
 @Service
 public class ReservationAvailabilityService {
     
     private static final Logger log = LoggerFactory.getLogger(ReservationAvailabilityService.class);
 
+    private static final int MAX_CALENDAR_ROOMS = 500;
+    private static final int MAX_CALENDAR_DAYS = 366;
+    private static final int MAX_SLOT_PAGE_SIZE = 1000;
+    private static final int MAX_SLOTS_PER_ROOM = 100;
+
     private final ReservationRepository repository;
+    private final ReservationJdbcRepository jdbcRepository;
+    private final ApprovedReservationIndex index;
+    private final ConflictLookups lookups;
+    private final ReservationMetrics metrics;
+    private final TransactionTemplate readOnlyTransaction;
 
-    public ReservationAvailabilityService(ReservationRepository repository) {
+    /**
+     * Database reads run in read-only transactions, so they are served by a read replica
+     * when one is configured. Lookups answered by the in-memory index skip the transaction.
+     */
+    public ReservationAvailabilityService(
+        ReservationRepository repository,
+        ReservationJdbcRepository jdbcRepository,
+        ApprovedReservationIndex index,
+        ConflictLookups lookups,
+        ReservationMetrics metrics,
+        PlatformTransactionManager transactionManager
+    ) {
         this.repository = repository;
+        this.jdbcRepository = jdbcRepository;
+        this.index = index;
+        this.lookups = lookups;
+        this.metrics = metrics;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
     }
 
-    public boolean isReservationAvailable(
+    public CompletableFuture<Boolean> isReservationAvailable(
         Long roomId,
         LocalDate startDate,
         LocalDate endDate
     ) {
+        return metrics.recordAsync("availability-check",
+            () -> findConflicts(roomId, startDate, endDate).thenApply(this::isAvailable));
+    }
+
+    private boolean isAvailable(List<Long> conflictsWith) {
 
-        List<Long> conflictsWith = repository.findConflictReservationIds(
-                roomId, 
-                startDate, 
-                endDate, 
-                ReservationStatus.APPROVED);
         if (conflictsWith.isEmpty())
             return true;
 
-        log.info("Conflicts with id=", conflictsWith);
+        log.info("Conflicts with id={}", conflictsWith);
         return false;
     }    
 
+    /**
+     * Answered in place by the index; otherwise by a database lookup shared with
+     * concurrent identical checks.
+     */
+    public CompletableFuture<List<Long>> findConflicts(
+        Long roomId,
+        LocalDate startDate,
+        LocalDate endDate
+    ) {
+        if (index.isReady()) {
+            return CompletableFuture.completedFuture(index.findConflicts(roomId, startDate, endDate));
+        }
+        return lookups.find(roomId, startDate, endDate);
+    }
+
+    public List<RoomAvailability> checkAvailability(BatchAvailabilityRequest request) {
+        return metrics.record("availability-batch", () -> checkAll(request));
+    }
+
+    private List<RoomAvailability> checkAll(BatchAvailabilityRequest request) {
+
+        List<CheckAvailabilityRequest> items = toItems(request);
+        if (items.isEmpty()) {
+            return List.of();
+        }
+
+        if (index.isReady()) {
+            return items.stream()
+                    .map(it -> toAvailability(it, index.findConflicts(
+                        it.roomId(), it.startDate(), it.endDate())))
+                    .toList();
+        }
+
+        // Each room is read only for the dates asked about it, not for the whole batch.
+        Map<Long, RoomDateRange> ranges = new LinkedHashMap<>();
+        for (CheckAvailabilityRequest item : items) {
+            ranges.merge(item.roomId(),
+                new RoomDateRange(item.roomId(), item.startDate(), item.endDate()),
+                (a, b) -> new RoomDateRange(
+                    a.roomId(),
+                    a.startDate().isBefore(b.startDate()) ? a.startDate() : b.startDate(),
+                    a.endDate().isAfter(b.endDate()) ? a.endDate() : b.endDate()
+                ));
+        }
+
+        Map<Long, List<ReservationInterval>> approvedByRoom = new HashMap<>();
+        List<ReservationInterval> approved = readOnlyTransaction.execute(status -> jdbcRepository
+            .findOverlappingIntervals(List.copyOf(ranges.values()), ReservationStatus.APPROVED));
+        for (ReservationInterval interval : approved) {
+            approvedByRoom.computeIfAbsent(interval.roomId(), it -> new ArrayList<>())
+                    .add(interval);
+        }
+
+        List<RoomAvailability> result = new ArrayList<>(items.size());
+        for (CheckAvailabilityRequest item : items) {
+            List<Long> conflicts = approvedByRoom.getOrDefault(item.roomId(), List.of())
+                    .stream()
+                    .filter(it -> item.startDate().isBefore(it.endDate())
+                        && it.startDate().isBefore(item.endDate()))
+                    .map(ReservationInterval::id)
+                    .toList();
+            result.add(toAvailability(item, conflicts));
+        }
+        return result;
+    }
+
+    public CalendarResponse calendar(
+        List<Long> roomIds,
+        LocalDate from,
+        LocalDate to,
+        boolean includePending
+    ) {
+        return metrics.record("availability-calendar",
+            () -> buildCalendar(roomIds, from, to, includePending));
+    }
+
+    private CalendarResponse buildCalendar(
+        List<Long> roomIds,
+        LocalDate from,
+        LocalDate to,
+        boolean includePending
+    ) {
+        if (roomIds == null || roomIds.isEmpty()) {
+            throw new IllegalArgumentException("roomIds should be specified");
+        }
+        if (roomIds.size() > MAX_CALENDAR_ROOMS) {
+            throw new IllegalArgumentException(
+                "Calendar is limited to " + MAX_CALENDAR_ROOMS + " rooms");
+        }
+        if (!to.isAfter(from)) {
+            throw new IllegalArgumentException("'to' must be after 'from'");
+        }
+        if (to.toEpochDay() - from.toEpochDay() > MAX_CALENDAR_DAYS) {
+            throw new IllegalArgumentException(
+                "Calendar is limited to " + MAX_CALENDAR_DAYS + " days");
+        }
+
+        List<ReservationStatus> statuses = includePending
+                ? List.of(ReservationStatus.APPROVED, ReservationStatus.PENDING)
+                : List.of(ReservationStatus.APPROVED);
+        List<ReservationInterval> intervals = readOnlyTransaction.execute(
+            status -> repository.findOverlappingIntervals(roomIds, from, to, statuses)
+        );
+
+        return new CalendarResponse(from, to,
+                OccupancyCalendar.build(roomIds, from, to, intervals));
+    }
+
+    public SlotSearchResponse findFreeSlots(SlotSearchQuery query) {
+        return metrics.record("availability-slots", () -> readOnlyTransaction.execute(
+            status -> searchSlots(query)
+        ));
+    }
+
+    private SlotSearchResponse searchSlots(SlotSearchQuery query) {
+        if (query.to().toEpochDay() - query.from().toEpochDay() > MAX_CALENDAR_DAYS) {
+            throw new IllegalArgumentException(
+                "Slot search is limited to " + MAX_CALENDAR_DAYS + " days");
+        }
+        if (query.pageSize() > MAX_SLOT_PAGE_SIZE || query.limit() > MAX_SLOTS_PER_ROOM) {
+            throw new IllegalArgumentException("pageSize is limited to " + MAX_SLOT_PAGE_SIZE
+                + " and limit to " + MAX_SLOTS_PER_ROOM);
+        }
+
+        long after = query.cursor() != null ? query.cursor() : Long.MIN_VALUE;
+        List<Long> page = query.roomIds() != null && !query.roomIds().isEmpty()
+                ? query.roomIds().stream()
+                    .filter(id -> id > after)
+                    .distinct()
+                    .sorted()
+                    .limit(query.pageSize() + 1L)
+                    .toList()
+                : repository.findRoomIdsAfter(after, Limit.of(query.pageSize() + 1));
+
+        Long nextCursor = null;
+        if (page.size() > query.pageSize()) {
+            page = page.subList(0, query.pageSize());
+            nextCursor = page.get(page.size() - 1);
+        }
+        if (page.isEmpty()) {
+            return new SlotSearchResponse(List.of(), null);
+        }
+
+        Map<Long, List<ReservationInterval>> approvedByRoom = new HashMap<>();
+        for (ReservationInterval interval : repository.findOverlappingIntervals(
+                page, query.from(), query.to(), List.of(ReservationStatus.APPROVED))) {
+            approvedByRoom.computeIfAbsent(interval.roomId(), it -> new ArrayList<>())
+                    .add(interval);
+        }
+
+        List<RoomSlots> rooms = new ArrayList<>();
+        for (Long roomId : page) {
+            List<FreeSlot> slots = FreeSlotFinder.find(
+                    approvedByRoom.getOrDefault(roomId, List.of()),
+                    query.from(),
+                    query.to(),
+                    query.nights(),
+                    query.limit());
+            if (!slots.isEmpty()) {
+                rooms.add(new RoomSlots(roomId, slots));
+            }
+        }
+        return new SlotSearchResponse(rooms, nextCursor);
+    }
+
+    private static List<CheckAvailabilityRequest> toItems(BatchAvailabilityRequest request) {
+        boolean hasItems = request.items() != null && !request.items().isEmpty();
+        boolean hasRooms = request.roomIds() != null && !request.roomIds().isEmpty();
+        if (hasItems == hasRooms) {
+            throw new IllegalArgumentException("Either items or roomIds should be specified");
+        }
+
+        List<CheckAvailabilityRequest> items = hasItems
+                ? request.items()
+                : request.roomIds().stream()
+                    .distinct()
+                    .map(roomId -> new CheckAvailabilityRequest(
+                        roomId, request.startDate(), request.endDate()))
+                    .toList();
+
+        for (CheckAvailabilityRequest item : items) {
+            if (item.startDate() == null || item.endDate() == null) {
+                throw new IllegalArgumentException("Start date and end date should be specified");
+            }
+            if (!item.endDate().isAfter(item.startDate())) {
+                throw new IllegalArgumentException("End date must be after start date");
+            }
+        }
+        return items;
+    }
+
+    private static RoomAvailability toAvailability(
+        CheckAvailabilityRequest item,
+        List<Long> conflicts
+    ) {
+        return new RoomAvailability(
+                item.roomId(),
+                item.startDate(),
+                item.endDate(),
+                conflicts.isEmpty() ? AvailabilityStatus.AVAILABLE : AvailabilityStatus.RESERVED,
+                conflicts
+        );
+    }
 }
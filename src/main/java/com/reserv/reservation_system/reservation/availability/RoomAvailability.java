@@ -0,0 +1,14 @@
+package com.reserv.reservation_system.reservation.availability;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record RoomAvailability(
+    Long roomId,
+    LocalDate startDate,
+    LocalDate endDate,
+    AvailabilityStatus status,
+    List<Long> conflictingReservationIds
+) {
+    
+}
@@ -0,0 +1,161 @@
+package com.reserv.reservation_system.reservation.availability;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Immutable set of approved intervals of one room, sorted by start date.
+ * Dates are stored as epoch days, {@code maxEnds[i]} is the greatest end
+ * among intervals {@code 0..i}, so a lookup can stop scanning as soon as
+ * nothing to the left can reach the requested start date.
+ */
+final class RoomIntervals {
+
+    static final RoomIntervals EMPTY = new RoomIntervals(
+        new long[0], new long[0], new long[0], new long[0]
+    );
+
+    private final long[] ids;
+    private final long[] starts;
+    private final long[] ends;
+    private final long[] maxEnds;
+
+    private RoomIntervals(long[] ids, long[] starts, long[] ends, long[] maxEnds) {
+        this.ids = ids;
+        this.starts = starts;
+        this.ends = ends;
+        this.maxEnds = maxEnds;
+    }
+
+    int size() {
+        return ids.length;
+    }
+
+    boolean isEmpty() {
+        return ids.length == 0;
+    }
+
+    long idAt(int i) {
+        return ids[i];
+    }
+
+    LocalDate startAt(int i) {
+        return LocalDate.ofEpochDay(starts[i]);
+    }
+
+    LocalDate endAt(int i) {
+        return LocalDate.ofEpochDay(ends[i]);
+    }
+
+    /**
+     * Ids of intervals overlapping the half-open range {@code [startDate, endDate)},
+     * the same rule as {@code ReservationRepository.findConflictReservationIds}.
+     */
+    List<Long> conflicts(LocalDate startDate, LocalDate endDate) {
+        long start = startDate.toEpochDay();
+        long end = endDate.toEpochDay();
+
+        List<Long> result = new ArrayList<>(0);
+        for (int i = lowerBound(starts, end) - 1; i >= 0 && maxEnds[i] > start; i--) {
+            if (ends[i] > start) {
+                result.add(ids[i]);
+            }
+        }
+        return result;
+    }
+
+    RoomIntervals with(long id, LocalDate startDate, LocalDate endDate) {
+        RoomIntervals base = without(id);
+        long start = startDate.toEpochDay();
+        long end = endDate.toEpochDay();
+
+        int n = base.ids.length;
+        int pos = lowerBound(base.starts, start);
+        while (pos < n && base.starts[pos] == start && base.ids[pos] < id) {
+            pos++;
+        }
+
+        long[] newIds = insert(base.ids, pos, id);
+        long[] newStarts = insert(base.starts, pos, start);
+        long[] newEnds = insert(base.ends, pos, end);
+        return new RoomIntervals(newIds, newStarts, newEnds, prefixMax(newEnds));
+    }
+
+    RoomIntervals without(long id) {
+        int pos = -1;
+        for (int i = 0; i < ids.length; i++) {
+            if (ids[i] == id) {
+                pos = i;
+                break;
+            }
+        }
+        if (pos < 0) {
+            return this;
+        }
+        if (ids.length == 1) {
+            return EMPTY;
+        }
+
+        long[] newEnds = remove(ends, pos);
+        return new RoomIntervals(remove(ids, pos), remove(starts, pos), newEnds, prefixMax(newEnds));
+    }
+
+    static RoomIntervals of(List<long[]> intervals) {
+        long[][] sorted = intervals.toArray(new long[0][]);
+        Arrays.sort(sorted, (a, b) -> a[1] != b[1]
+            ? Long.compare(a[1], b[1])
+            : Long.compare(a[0], b[0]));
+
+        int n = sorted.length;
+        long[] ids = new long[n];
+        long[] starts = new long[n];
+        long[] ends = new long[n];
+        for (int i = 0; i < n; i++) {
+            ids[i] = sorted[i][0];
+            starts[i] = sorted[i][1];
+            ends[i] = sorted[i][2];
+        }
+        return new RoomIntervals(ids, starts, ends, prefixMax(ends));
+    }
+
+    private static int lowerBound(long[] values, long key) {
+        int lo = 0;
+        int hi = values.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (values[mid] < key) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private static long[] prefixMax(long[] ends) {
+        long[] result = new long[ends.length];
+        long max = Long.MIN_VALUE;
+        for (int i = 0; i < ends.length; i++) {
+            max = Math.max(max, ends[i]);
+            result[i] = max;
+        }
+        return result;
+    }
+
+    private static long[] insert(long[] values, int pos, long value) {
+        long[] result = new long[values.length + 1];
+        System.arraycopy(values, 0, result, 0, pos);
+        result[pos] = value;
+        System.arraycopy(values, pos, result, pos + 1, values.length - pos);
+        return result;
+    }
+
+    private static long[] remove(long[] values, int pos) {
+        long[] result = new long[values.length - 1];
+        System.arraycopy(values, 0, result, 0, pos);
+        System.arraycopy(values, pos + 1, result, pos, values.length - pos - 1);
+        return result;
+    }
+}
@@ -0,0 +1,26 @@
+package com.reserv.reservation_system.reservation.availability;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record SlotSearchQuery(
+    List<Long> roomIds,
+    LocalDate from,
+    LocalDate to,
+    int nights,
+    int limit,
+    int pageSize,
+    Long cursor
+) {
+    public SlotSearchQuery {
+        if (from == null || to == null || !to.isAfter(from)) {
+            throw new IllegalArgumentException("'to' must be after 'from'");
+        }
+        if (nights < 1) {
+            throw new IllegalArgumentException("nights must be positive");
+        }
+        if (limit < 1 || pageSize < 1) {
+            throw new IllegalArgumentException("limit and pageSize must be positive");
+        }
+    }
+}
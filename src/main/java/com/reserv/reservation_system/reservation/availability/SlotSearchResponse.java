@@ -0,0 +1,10 @@
+package com.reserv.reservation_system.reservation.availability;
+
+import java.util.List;
+
+public record SlotSearchResponse(
+    List<RoomSlots> rooms,
+    Long nextCursor
+) {
+    
+}
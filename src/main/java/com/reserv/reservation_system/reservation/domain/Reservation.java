@@ -8,7 +8,8 @@ public record Reservation(
     LocalDate startDate,
     LocalDate endDate,
 
-    ReservationStatus status
+    ReservationStatus status,
+    Long version
 ) {
     public Reservation {
         if(!endDate.isAfter(startDate)) {
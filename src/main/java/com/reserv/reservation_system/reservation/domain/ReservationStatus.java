@@ -3,5 +3,6 @@ package com.reserv.reservation_system.reservation.domain;
 public enum ReservationStatus {
     PENDING,
     APPROVED,
-    CANCELLED
+    CANCELLED,
+    REJECTED
 }
@@ -0,0 +1,9 @@
+package com.reserv.reservation_system.reservation.events;
+
+public enum ReservationChangeType {
+    CREATED,
+    UPDATED,
+    APPROVED,
+    CANCELLED,
+    REJECTED
+}
@@ -0,0 +1,35 @@
+package com.reserv.reservation_system.reservation.events;
+
+import java.time.Instant;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.reserv.reservation_system.reservation.domain.Reservation;
+
+/**
+ * Published by the service layer when a reservation changes,
+ * {@code reservation} is the state after the change. {@code previous} is the state
+ * before it for updates, which may move a reservation to another user or room, and
+ * for status changes; it is not set for creates.
+ */
+public record ReservationChangedEvent(
+    ReservationChangeType type,
+    Reservation reservation,
+    @JsonInclude(JsonInclude.Include.NON_NULL) Reservation previous,
+    Instant occurredAt
+) {
+    public static ReservationChangedEvent of(ReservationChangeType type, Reservation reservation) {
+        return new ReservationChangedEvent(type, reservation, null, Instant.now());
+    }
+
+    public static ReservationChangedEvent statusChanged(
+        ReservationChangeType type,
+        Reservation previous,
+        Reservation reservation
+    ) {
+        return new ReservationChangedEvent(type, reservation, previous, Instant.now());
+    }
+
+    public static ReservationChangedEvent updated(Reservation previous, Reservation reservation) {
+        return new ReservationChangedEvent(ReservationChangeType.UPDATED, reservation, previous, Instant.now());
+    }
+}
@@ -0,0 +1,34 @@
+package com.reserv.reservation_system.reservation.events;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/reservation/events")
+public class ReservationEventController {
+
+    private static final Logger log = LoggerFactory.getLogger(ReservationEventController.class);
+
+    private final ReservationEventStream eventStream;
+
+    public ReservationEventController(ReservationEventStream eventStream) {
+        this.eventStream = eventStream;
+    }
+
+    @GetMapping
+    public SseEmitter subscribe(
+        @RequestParam(name = "reservationId", required = false) Long reservationId,
+        @RequestParam(name = "userId", required = false) Long userId,
+        @RequestParam(name = "roomId", required = false) Long roomId
+    ) {
+        log.info("Called subscribe with reservationId={}, userId={}, roomId={}",
+            reservationId, userId, roomId);
+
+        return eventStream.subscribe(reservationId, userId, roomId);
+    }
+}
@@ -0,0 +1,271 @@
+package com.reserv.reservation_system.reservation.events;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.reserv.reservation_system.reservation.domain.Reservation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Registry of SSE subscribers. An idle subscriber is just an {@link SseEmitter}
+ * parked in servlet async mode, it holds no thread. Events are fanned out after
+ * commit on a single dispatcher thread into a bounded queue per subscriber, which
+ * is written on a virtual thread, so every subscriber sees them in order and a slow
+ * client only delays itself. A subscriber whose queue is full is dropped and has
+ * to reconnect.
+ */
+@Component
+public class ReservationEventStream implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ReservationEventStream.class);
+
+    private final Map<Long, Set<Subscriber>> byReservation = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Subscriber>> byUser = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Subscriber>> byRoom = new ConcurrentHashMap<>();
+
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ExecutorService dispatcher = Executors.newSingleThreadExecutor(
+        Thread.ofPlatform().name("reservation-events").daemon().factory()
+    );
+    private final ExecutorService senders = Executors.newThreadPerTaskExecutor(
+        Thread.ofVirtual().name("reservation-events-send-", 0).factory()
+    );
+
+    private final Supplier<SseEmitter> emitters;
+    private final int maxSubscribers;
+    private final int queueCapacity;
+    private final Counter dropped;
+
+    @Autowired
+    public ReservationEventStream(
+        @Value("${reservation.events.timeout:30m}") Duration timeout,
+        @Value("${reservation.events.max-subscribers:50000}") int maxSubscribers,
+        @Value("${reservation.events.queue-capacity:64}") int queueCapacity,
+        MeterRegistry registry
+    ) {
+        this(() -> new SseEmitter(timeout.toMillis()), maxSubscribers, queueCapacity, registry);
+    }
+
+    ReservationEventStream(
+        Supplier<SseEmitter> emitters,
+        int maxSubscribers,
+        int queueCapacity,
+        MeterRegistry registry
+    ) {
+        this.emitters = emitters;
+        this.maxSubscribers = maxSubscribers;
+        this.queueCapacity = queueCapacity;
+        Gauge.builder("reservation.events.subscribers", subscriberCount, AtomicInteger::get)
+            .description("Open reservation event streams")
+            .register(registry);
+        this.dropped = Counter.builder("reservation.events.dropped")
+            .description("Subscribers dropped because they did not keep up")
+            .register(registry);
+    }
+
+    public SseEmitter subscribe(Long reservationId, Long userId, Long roomId) {
+        if (reservationId == null && userId == null && roomId == null) {
+            throw new IllegalArgumentException(
+                "At least one of reservationId, userId or roomId should be specified");
+        }
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new RejectedExecutionException("Too many event subscribers, try again later");
+        }
+
+        SseEmitter emitter = emitters.get();
+        Subscriber subscriber = new Subscriber(emitter, reservationId, userId, roomId);
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onError(e -> unsubscribe(subscriber));
+        // Added inside compute, so a concurrent unsubscribe cannot remove the set in between.
+        subscriber.registry().compute(subscriber.key(), (key, subscribers) -> {
+            Set<Subscriber> result = subscribers != null ? subscribers : ConcurrentHashMap.newKeySet();
+            result.add(subscriber);
+            return result;
+        });
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        dispatcher.execute(() -> deliver(event));
+    }
+
+    @Scheduled(fixedRateString = "${reservation.events.heartbeat:30s}")
+    public void sendHeartbeats() {
+        dispatcher.execute(() -> {
+            for (var registry : List.of(byReservation, byUser, byRoom)) {
+                registry.values().forEach(subscribers -> subscribers.forEach(
+                    it -> enqueue(it, SseEmitter.event().comment("heartbeat"))));
+            }
+        });
+    }
+
+    public int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    @Override
+    public void destroy() {
+        dispatcher.shutdownNow();
+        senders.shutdownNow();
+    }
+
+    private void deliver(ReservationChangedEvent event) {
+        Set<Subscriber> recipients = new LinkedHashSet<>();
+        addRecipients(recipients, event.reservation());
+        // An update may move the reservation to another user or room; its old
+        // subscribers should see it leave.
+        if (event.previous() != null) {
+            addRecipients(recipients, event.previous());
+        }
+
+        for (Subscriber subscriber : recipients) {
+            if (subscriber.matches(event)) {
+                enqueue(subscriber, SseEmitter.event()
+                    .name(event.type().name())
+                    .data(event, MediaType.APPLICATION_JSON));
+            }
+        }
+    }
+
+    private void addRecipients(Set<Subscriber> recipients, Reservation reservation) {
+        recipients.addAll(byReservation.getOrDefault(reservation.id(), Set.of()));
+        recipients.addAll(byUser.getOrDefault(reservation.userId(), Set.of()));
+        recipients.addAll(byRoom.getOrDefault(reservation.roomId(), Set.of()));
+    }
+
+    private void enqueue(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        if (subscriber.removed.get()) {
+            return;
+        }
+        if (subscriber.queued.incrementAndGet() > queueCapacity) {
+            subscriber.queued.decrementAndGet();
+            log.debug("Dropping event subscriber: {} events not sent yet", queueCapacity);
+            dropped.increment();
+            unsubscribe(subscriber);
+            // complete() waits for a send in progress, so it must not run on the dispatcher.
+            senders.execute(subscriber.emitter::complete);
+            return;
+        }
+        subscriber.pending.add(event);
+        if (subscriber.draining.compareAndSet(false, true)) {
+            senders.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        do {
+            SseEmitter.SseEventBuilder event;
+            while ((event = subscriber.pending.poll()) != null) {
+                subscriber.queued.decrementAndGet();
+                if (!send(subscriber, event)) {
+                    subscriber.pending.clear();
+                    return;
+                }
+            }
+            subscriber.draining.set(false);
+        } while (!subscriber.pending.isEmpty() && subscriber.draining.compareAndSet(false, true));
+    }
+
+    private boolean send(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        if (subscriber.removed.get()) {
+            return false;
+        }
+        try {
+            subscriber.emitter.send(event);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Dropping event subscriber: {}", e.getMessage());
+            subscriber.emitter.completeWithError(e);
+            unsubscribe(subscriber);
+            return false;
+        }
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        if (subscriber.removed.compareAndSet(false, true)) {
+            subscriber.registry().computeIfPresent(subscriber.key(), (key, subscribers) -> {
+                subscribers.remove(subscriber);
+                return subscribers.isEmpty() ? null : subscribers;
+            });
+            subscriberCount.decrementAndGet();
+        }
+    }
+
+    /**
+     * Registered under its most selective key only; the other filters
+     * are checked on delivery, so several filters combine with AND.
+     */
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final Long reservationId;
+        private final Long userId;
+        private final Long roomId;
+        private final AtomicBoolean removed = new AtomicBoolean();
+
+        private final Queue<SseEmitter.SseEventBuilder> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        Subscriber(SseEmitter emitter, Long reservationId, Long userId, Long roomId) {
+            this.emitter = emitter;
+            this.reservationId = reservationId;
+            this.userId = userId;
+            this.roomId = roomId;
+        }
+
+        Map<Long, Set<Subscriber>> registry() {
+            if (reservationId != null) {
+                return byReservation;
+            }
+            return userId != null ? byUser : byRoom;
+        }
+
+        Long key() {
+            if (reservationId != null) {
+                return reservationId;
+            }
+            return userId != null ? userId : roomId;
+        }
+
+        boolean matches(ReservationChangedEvent event) {
+            return matches(event.reservation())
+                || (event.previous() != null && matches(event.previous()));
+        }
+
+        private boolean matches(Reservation reservation) {
+            return (reservationId == null || reservationId.equals(reservation.id()))
+                && (userId == null || userId.equals(reservation.userId()))
+                && (roomId == null || roomId.equals(reservation.roomId()));
+        }
+    }
+}
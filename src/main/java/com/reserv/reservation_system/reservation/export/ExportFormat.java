@@ -0,0 +1,75 @@
+package com.reserv.reservation_system.reservation.export;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import com.reserv.reservation_system.reservation.domain.Reservation;
+
+public enum ExportFormat {
+
+    NDJSON("application/x-ndjson", "ndjson") {
+        @Override
+        void writeHeader(Writer writer) {
+        }
+
+        @Override
+        void writeRow(Writer writer, Reservation reservation) throws IOException {
+            writer.write("{\"id\":");
+            writer.write(Long.toString(reservation.id()));
+            writer.write(",\"userId\":");
+            writer.write(Long.toString(reservation.userId()));
+            writer.write(",\"roomId\":");
+            writer.write(Long.toString(reservation.roomId()));
+            writer.write(",\"startDate\":\"");
+            writer.write(reservation.startDate().toString());
+            writer.write("\",\"endDate\":\"");
+            writer.write(reservation.endDate().toString());
+            writer.write("\",\"status\":\"");
+            writer.write(reservation.status().name());
+            writer.write("\"}\n");
+        }
+    },
+
+    CSV("text/csv", "csv") {
+        @Override
+        void writeHeader(Writer writer) throws IOException {
+            writer.write("id,userId,roomId,startDate,endDate,status\n");
+        }
+
+        @Override
+        void writeRow(Writer writer, Reservation reservation) throws IOException {
+            writer.write(Long.toString(reservation.id()));
+            writer.write(',');
+            writer.write(Long.toString(reservation.userId()));
+            writer.write(',');
+            writer.write(Long.toString(reservation.roomId()));
+            writer.write(',');
+            writer.write(reservation.startDate().toString());
+            writer.write(',');
+            writer.write(reservation.endDate().toString());
+            writer.write(',');
+            writer.write(reservation.status().name());
+            writer.write('\n');
+        }
+    };
+
+    private final String mediaType;
+    private final String fileExtension;
+
+    ExportFormat(String mediaType, String fileExtension) {
+        this.mediaType = mediaType;
+        this.fileExtension = fileExtension;
+    }
+
+    public String mediaType() {
+        return mediaType;
+    }
+
+    public String fileExtension() {
+        return fileExtension;
+    }
+
+    abstract void writeHeader(Writer writer) throws IOException;
+
+    abstract void writeRow(Writer writer, Reservation reservation) throws IOException;
+}
@@ -0,0 +1,69 @@
+package com.reserv.reservation_system.reservation.export;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.reserv.reservation_system.reservation.domain.ReservationStatus;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+@RestController
+@RequestMapping("/reservation/export")
+public class ReservationExportController {
+
+    private static final Logger log = LoggerFactory.getLogger(ReservationExportController.class);
+
+    private final ReservationExportService exportService;
+
+    private final Duration timeout;
+
+    public ReservationExportController(
+        ReservationExportService exportService,
+        @Value("${reservation.export.timeout:30m}") Duration timeout
+    ) {
+        this.exportService = exportService;
+        this.timeout = timeout;
+    }
+
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> exportReservations(
+        @RequestParam(name = "format", defaultValue = "NDJSON") ExportFormat format,
+        @RequestParam(name = "roomId", required = false) Long roomId,
+        @RequestParam(name = "userId", required = false) Long userId,
+        @RequestParam(name = "status", required = false) ReservationStatus status,
+        @RequestParam(name = "from", required = false)
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam(name = "to", required = false)
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+        HttpServletRequest request
+    ) {
+        log.info("Called exportReservations with format {}", format);
+
+        // A large export streams far longer than the default async timeout, which other
+        // async handlers keep; the streaming task inherits the timeout set here.
+        WebAsyncUtils.getAsyncManager(request).getAsyncWebRequest().setTimeout(timeout.toMillis());
+
+        var filter = new ReservationExportFilter(roomId, userId, status, from, to);
+        StreamingResponseBody body = out -> exportService.export(filter, format, out);
+
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(format.mediaType()))
+            .header(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"reservations." + format.fileExtension() + "\"")
+            .body(body);
+    }
+}
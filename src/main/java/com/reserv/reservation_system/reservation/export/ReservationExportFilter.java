@@ -0,0 +1,19 @@
+package com.reserv.reservation_system.reservation.export;
+
+import java.time.LocalDate;
+
+import com.reserv.reservation_system.reservation.domain.ReservationStatus;
+
+public record ReservationExportFilter(
+    Long roomId,
+    Long userId,
+    ReservationStatus status,
+    LocalDate from,
+    LocalDate to
+) {
+    public ReservationExportFilter {
+        if (from != null && to != null && !to.isAfter(from)) {
+            throw new IllegalArgumentException("'to' must be after 'from'");
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.reserv.reservation_system.reservation.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.reserv.reservation_system.reservation.persistence.ReservationJdbcRepository;
+
+@Service
+public class ReservationExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReservationExportService.class);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ReservationJdbcRepository jdbcRepository;
+
+    private final TransactionTemplate readOnlyTransaction;
+
+    public ReservationExportService(
+        ReservationJdbcRepository jdbcRepository,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.jdbcRepository = jdbcRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public void export(ReservationExportFilter filter, ExportFormat format, OutputStream out) {
+
+        long[] rows = {0};
+        Writer writer = new BufferedWriter(
+                new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try {
+                format.writeHeader(writer);
+                jdbcRepository.streamReservations(
+                    filter.roomId(),
+                    filter.userId(),
+                    filter.status(),
+                    filter.from(),
+                    filter.to(),
+                    reservation -> {
+                        try {
+                            format.writeRow(writer, reservation);
+                            rows[0]++;
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    }
+                );
+                writer.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        log.info("Exported {} reservations as {} for filter {}", rows[0], format, filter);
+    }
+}
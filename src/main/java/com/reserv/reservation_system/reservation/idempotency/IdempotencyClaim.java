@@ -0,0 +1,30 @@
+package com.reserv.reservation_system.reservation.idempotency;
+
+/**
+ * Outcome of {@link IdempotencyStore#claim}: only {@code ACQUIRED} lets the request run.
+ */
+public record IdempotencyClaim(State state, StoredResponse response) {
+
+    public enum State {
+        ACQUIRED,
+        REPLAY,
+        IN_PROGRESS,
+        MISMATCH
+    }
+
+    static IdempotencyClaim acquired() {
+        return new IdempotencyClaim(State.ACQUIRED, null);
+    }
+
+    static IdempotencyClaim replay(StoredResponse response) {
+        return new IdempotencyClaim(State.REPLAY, response);
+    }
+
+    static IdempotencyClaim inProgress() {
+        return new IdempotencyClaim(State.IN_PROGRESS, null);
+    }
+
+    static IdempotencyClaim mismatch() {
+        return new IdempotencyClaim(State.MISMATCH, null);
+    }
+}
@@ -0,0 +1,267 @@
+package com.reserv.reservation_system.reservation.idempotency;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reserv.reservation_system.common.exception.ErrorResponseDto;
+import com.reserv.reservation_system.reservation.idempotency.IdempotencyClaim.State;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * {@code Idempotency-Key} support for the mutations of {@code ReservationController}.
+ * The first request with a key runs and its response is stored unless it is a 5xx
+ * or a 409 (lost a race with a concurrent change, so a retry may succeed); a repeat with the same method, path and body gets the stored response back without
+ * reaching the controller. The same key with a different request is answered with 422,
+ * a repeat while the first request is still running with 409.
+ */
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+
+    static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private static final String BASE_PATH = "/reservation";
+
+    /** Sub-paths of {@code /reservation} served by other controllers. */
+    private static final Set<String> OTHER_CONTROLLERS =
+        Set.of("availability", "export", "events", "summary");
+
+    private final IdempotencyStore store;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+
+    private final Map<State, Counter> requests = new EnumMap<>(State.class);
+
+    public IdempotencyFilter(
+        IdempotencyStore store,
+        ObjectMapper objectMapper,
+        MeterRegistry registry,
+        @Value("${reservation.idempotency.enabled:true}") boolean enabled
+    ) {
+        this.store = store;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        for (State state : State.values()) {
+            requests.put(state, Counter.builder("reservation.idempotency.requests")
+                .tag("result", state.name().toLowerCase().replace('_', '-'))
+                .register(registry));
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!enabled || request.getHeader(HEADER) == null) {
+            return true;
+        }
+        String method = request.getMethod();
+        if ("GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method)) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (path.equals(BASE_PATH)) {
+            return false;
+        }
+        if (!path.startsWith(BASE_PATH + "/")) {
+            return true;
+        }
+        String segment = path.substring(BASE_PATH.length() + 1);
+        int slash = segment.indexOf('/');
+        return OTHER_CONTROLLERS.contains(slash < 0 ? segment : segment.substring(0, slash));
+    }
+
+    @Override
+    protected void doFilterInternal(
+        HttpServletRequest request,
+        HttpServletResponse response,
+        FilterChain chain
+    ) throws ServletException, IOException {
+        String key = request.getHeader(HEADER).strip();
+        if (key.isEmpty() || key.length() > MAX_KEY_LENGTH) {
+            reject(response, HttpStatus.BAD_REQUEST, "Bad request",
+                HEADER + " must be 1 to " + MAX_KEY_LENGTH + " characters long");
+            return;
+        }
+
+        byte[] body = request.getInputStream().readAllBytes();
+        String fingerprint = fingerprint(request, body);
+        IdempotencyClaim claim = store.claim(key, fingerprint);
+        requests.get(claim.state()).increment();
+
+        switch (claim.state()) {
+            case ACQUIRED -> execute(key, fingerprint, new CachedBodyRequest(request, body), response, chain);
+            case REPLAY -> replay(claim.response(), response);
+            case IN_PROGRESS -> reject(response, HttpStatus.CONFLICT,
+                "Request is already in progress",
+                "A request with this " + HEADER + " has not finished yet. Retry later");
+            case MISMATCH -> reject(response, HttpStatus.UNPROCESSABLE_ENTITY,
+                "Idempotency key reused",
+                HEADER + " was already used for a different request");
+        }
+    }
+
+    private void execute(
+        String key,
+        String fingerprint,
+        HttpServletRequest request,
+        HttpServletResponse response,
+        FilterChain chain
+    ) throws ServletException, IOException {
+        var capturing = new ContentCachingResponseWrapper(response);
+        boolean stored = false;
+        try {
+            chain.doFilter(request, capturing);
+            if (isFinal(capturing.getStatus())) {
+                store.complete(key, fingerprint, new StoredResponse(
+                    capturing.getStatus(),
+                    capturing.getContentType(),
+                    capturing.getHeader(HttpHeaders.ETAG),
+                    capturing.getHeader(HttpHeaders.LOCATION),
+                    capturing.getContentAsByteArray()
+                ));
+                stored = true;
+            }
+        } finally {
+            if (!stored) {
+                store.abandon(key);
+            }
+            capturing.copyBodyToResponse();
+        }
+    }
+
+    private static boolean isFinal(int status) {
+        return status < 500 && status != HttpStatus.CONFLICT.value();
+    }
+
+    private static void replay(StoredResponse stored, HttpServletResponse response) throws IOException {
+        response.setStatus(stored.status());
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        if (stored.eTag() != null) {
+            response.setHeader(HttpHeaders.ETAG, stored.eTag());
+        }
+        if (stored.location() != null) {
+            response.setHeader(HttpHeaders.LOCATION, stored.location());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+    }
+
+    private void reject(
+        HttpServletResponse response,
+        HttpStatus status,
+        String message,
+        String errorMessage
+    ) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(),
+            new ErrorResponseDto(message, errorMessage, LocalDateTime.now()));
+    }
+
+    private static String fingerprint(HttpServletRequest request, byte[] body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((request.getMethod() + ' ' + request.getRequestURI() + '?'
+                + request.getQueryString() + '\n').getBytes(StandardCharsets.UTF_8));
+            digest.update(body);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * The body had to be read for the fingerprint, the controller reads it again from here.
+     */
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            var input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return input.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    // The whole body is already in memory, so it is available right away.
+                    try {
+                        if (!isFinished()) {
+                            listener.onDataAvailable();
+                        }
+                        if (isFinished()) {
+                            listener.onAllDataRead();
+                        }
+                    } catch (IOException e) {
+                        listener.onError(e);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.reserv.reservation_system.reservation.idempotency;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Optional;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * {@code idempotency_keys} table, so a retry that lands on another instance still
+ * finds the first response. Only consulted when the local store misses.
+ */
+@Repository
+@ConditionalOnProperty(name = "reservation.idempotency.shared", havingValue = "true")
+public class IdempotencyKeyRepository {
+
+    /**
+     * A stored key; {@code response} is null while the first request is still running.
+     */
+    public record StoredKey(String fingerprint, StoredResponse response, Instant createdAt) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public IdempotencyKeyRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Claims the key for the calling request, false if any row for it already exists.
+     */
+    public boolean insertClaim(String key, String fingerprint, Instant now) {
+        return jdbcTemplate.update("""
+                INSERT INTO idempotency_keys (idempotency_key, fingerprint, created_at)
+                VALUES (?, ?, ?)
+                ON CONFLICT (idempotency_key) DO NOTHING
+                """,
+            key, fingerprint, Timestamp.from(now)) > 0;
+    }
+
+    public Optional<StoredKey> find(String key) {
+        return jdbcTemplate.query("""
+                SELECT fingerprint, status_code, content_type, etag, location, body, created_at
+                FROM idempotency_keys
+                WHERE idempotency_key = ?
+                """,
+            (rs, rowNum) -> {
+                int status = rs.getInt("status_code");
+                StoredResponse response = rs.wasNull() ? null : new StoredResponse(
+                    status,
+                    rs.getString("content_type"),
+                    rs.getString("etag"),
+                    rs.getString("location"),
+                    rs.getBytes("body")
+                );
+                return new StoredKey(
+                    rs.getString("fingerprint"),
+                    response,
+                    rs.getTimestamp("created_at").toInstant()
+                );
+            },
+            key).stream().findFirst();
+    }
+
+    /**
+     * Replaces an expired or abandoned row with a fresh claim. Matching on the old
+     * {@code created_at} lets only one of several competing requests win.
+     */
+    public boolean takeOver(String key, String fingerprint, Instant now, Instant previousCreatedAt) {
+        return jdbcTemplate.update("""
+                UPDATE idempotency_keys
+                SET fingerprint = ?, created_at = ?,
+                    status_code = NULL, content_type = NULL, etag = NULL, location = NULL, body = NULL
+                WHERE idempotency_key = ? AND created_at = ?
+                """,
+            fingerprint, Timestamp.from(now), key, Timestamp.from(previousCreatedAt)) > 0;
+    }
+
+    public void complete(String key, StoredResponse response) {
+        jdbcTemplate.update("""
+                UPDATE idempotency_keys
+                SET status_code = ?, content_type = ?, etag = ?, location = ?, body = ?
+                WHERE idempotency_key = ?
+                """,
+            response.status(), response.contentType(), response.eTag(), response.location(),
+            response.body(), key);
+    }
+
+    public void delete(String key) {
+        jdbcTemplate.update("DELETE FROM idempotency_keys WHERE idempotency_key = ?", key);
+    }
+
+    public int deleteCreatedBefore(Instant threshold) {
+        return jdbcTemplate.update(
+            "DELETE FROM idempotency_keys WHERE created_at < ?", Timestamp.from(threshold));
+    }
+}
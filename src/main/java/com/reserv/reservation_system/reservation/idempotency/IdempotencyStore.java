@@ -0,0 +1,177 @@
+package com.reserv.reservation_system.reservation.idempotency;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.reserv.reservation_system.reservation.idempotency.IdempotencyKeyRepository.StoredKey;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Responses by idempotency key. The bounded local cache answers replays without touching
+ * the database; with {@code reservation.idempotency.shared=true} keys are also claimed in
+ * {@code idempotency_keys}, so duplicates spread over several instances run only once.
+ * A claim whose request never finished is given up after {@code claimTimeout}.
+ */
+@Component
+public class IdempotencyStore {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyStore.class);
+
+    static final String CACHE_NAME = "idempotency-keys";
+
+    /**
+     * {@code response} is null while the request holding the key is running.
+     */
+    private record Entry(String fingerprint, StoredResponse response) {
+    }
+
+    private final Cache<String, Entry> entries;
+    private final IdempotencyKeyRepository repository;
+    private final Clock clock;
+    private final Duration ttl;
+    private final Duration claimTimeout;
+
+    @Autowired
+    public IdempotencyStore(
+        ObjectProvider<IdempotencyKeyRepository> repository,
+        MeterRegistry registry,
+        @Value("${reservation.idempotency.max-size:50000}") long maxSize,
+        @Value("${reservation.idempotency.ttl:24h}") Duration ttl,
+        @Value("${reservation.idempotency.claim-timeout:1m}") Duration claimTimeout
+    ) {
+        this(repository.getIfAvailable(), registry, Clock.systemUTC(), maxSize, ttl, claimTimeout);
+    }
+
+    IdempotencyStore(
+        IdempotencyKeyRepository repository,
+        MeterRegistry registry,
+        Clock clock,
+        long maxSize,
+        Duration ttl,
+        Duration claimTimeout
+    ) {
+        this.entries = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(registry, entries, CACHE_NAME);
+        this.repository = repository;
+        this.clock = clock;
+        this.ttl = ttl;
+        this.claimTimeout = claimTimeout;
+    }
+
+    public IdempotencyClaim claim(String key, String fingerprint) {
+        Entry running = new Entry(fingerprint, null);
+        Entry existing = entries.asMap().putIfAbsent(key, running);
+        if (existing != null) {
+            if (!existing.fingerprint().equals(fingerprint)) {
+                return IdempotencyClaim.mismatch();
+            }
+            return existing.response() != null
+                ? IdempotencyClaim.replay(existing.response())
+                : IdempotencyClaim.inProgress();
+        }
+        if (repository == null) {
+            return IdempotencyClaim.acquired();
+        }
+
+        try {
+            IdempotencyClaim claim = claimShared(key, fingerprint);
+            switch (claim.state()) {
+                case ACQUIRED -> { }
+                case REPLAY -> entries.put(key, new Entry(fingerprint, claim.response()));
+                default -> entries.asMap().remove(key, running);
+            }
+            return claim;
+        } catch (RuntimeException e) {
+            entries.asMap().remove(key, running);
+            throw e;
+        }
+    }
+
+    public void complete(String key, String fingerprint, StoredResponse response) {
+        entries.put(key, new Entry(fingerprint, response));
+        if (repository != null) {
+            try {
+                repository.complete(key, response);
+            } catch (RuntimeException e) {
+                log.warn("Could not store response for idempotency key {}", key, e);
+            }
+        }
+    }
+
+    /**
+     * Releases the key of a request that failed, so the client can retry it.
+     */
+    public void abandon(String key) {
+        entries.invalidate(key);
+        if (repository != null) {
+            try {
+                repository.delete(key);
+            } catch (RuntimeException e) {
+                log.warn("Could not release idempotency key {}, it expires after {}",
+                    key, claimTimeout, e);
+            }
+        }
+    }
+
+    @Scheduled(
+        initialDelayString = "${reservation.idempotency.purge-interval:10m}",
+        fixedDelayString = "${reservation.idempotency.purge-interval:10m}"
+    )
+    public void purgeExpired() {
+        if (repository == null) {
+            return;
+        }
+        int deleted = repository.deleteCreatedBefore(clock.instant().minus(ttl));
+        if (deleted > 0) {
+            log.info("Purged {} expired idempotency keys", deleted);
+        }
+    }
+
+    private IdempotencyClaim claimShared(String key, String fingerprint) {
+        Instant now = clock.instant();
+        if (repository.insertClaim(key, fingerprint, now)) {
+            return IdempotencyClaim.acquired();
+        }
+
+        Optional<StoredKey> stored = repository.find(key);
+        if (stored.isEmpty()) {
+            // Purged or released between the insert and the read.
+            return repository.insertClaim(key, fingerprint, now)
+                ? IdempotencyClaim.acquired()
+                : IdempotencyClaim.inProgress();
+        }
+
+        StoredKey row = stored.get();
+        boolean expired = row.createdAt().isBefore(now.minus(ttl));
+        boolean abandoned = row.response() == null && row.createdAt().isBefore(now.minus(claimTimeout));
+        if (expired || abandoned) {
+            return repository.takeOver(key, fingerprint, now, row.createdAt())
+                ? IdempotencyClaim.acquired()
+                : IdempotencyClaim.inProgress();
+        }
+        if (!row.fingerprint().equals(fingerprint)) {
+            return IdempotencyClaim.mismatch();
+        }
+        return row.response() != null
+            ? IdempotencyClaim.replay(row.response())
+            : IdempotencyClaim.inProgress();
+    }
+}
@@ -0,0 +1,14 @@
+package com.reserv.reservation_system.reservation.idempotency;
+
+/**
+ * What is replayed for a repeated key: status, the headers a client needs to follow up
+ * on the result and the raw body.
+ */
+public record StoredResponse(
+    int status,
+    String contentType,
+    String eTag,
+    String location,
+    byte[] body
+) {
+}
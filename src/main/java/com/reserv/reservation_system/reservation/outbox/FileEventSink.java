@@ -0,0 +1,44 @@
+package com.reserv.reservation_system.reservation.outbox;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Appends every message as one JSON line and forces it to disk before the batch
+ * is deleted from the outbox.
+ */
+@Component
+@ConditionalOnProperty(name = "reservation.outbox.sink", havingValue = "file")
+public class FileEventSink implements ReservationEventSink {
+
+    private final Path file;
+
+    public FileEventSink(@Value("${reservation.outbox.file:reservation-events.ndjson}") Path file) {
+        this.file = file;
+    }
+
+    @Override
+    public synchronized void publish(List<OutboxMessage> messages) throws IOException {
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+             Writer writer = Channels.newWriter(channel, StandardCharsets.UTF_8)) {
+            for (OutboxMessage message : messages) {
+                writer.write("{\"id\":" + message.id()
+                    + ",\"type\":\"" + message.eventType()
+                    + "\",\"event\":" + message.payload() + "}\n");
+            }
+            writer.flush();
+            channel.force(false);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.reserv.reservation_system.reservation.outbox;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "reservation.outbox.sink", havingValue = "log", matchIfMissing = true)
+public class LoggingEventSink implements ReservationEventSink {
+
+    private static final Logger log = LoggerFactory.getLogger(LoggingEventSink.class);
+
+    @Override
+    public void publish(List<OutboxMessage> messages) {
+        for (OutboxMessage message : messages) {
+            log.info("Reservation event id={} type={}: {}",
+                message.id(), message.eventType(), message.payload());
+        }
+    }
+}
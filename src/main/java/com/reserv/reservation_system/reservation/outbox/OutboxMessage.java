@@ -0,0 +1,17 @@
+package com.reserv.reservation_system.reservation.outbox;
+
+import java.time.Instant;
+
+/**
+ * Row of {@code reservation_outbox}; {@code payload} is the JSON form
+ * of the {@code ReservationChangedEvent}.
+ */
+public record OutboxMessage(
+    Long id,
+    String eventType,
+    Long reservationId,
+    String payload,
+    Instant createdAt
+) {
+    
+}
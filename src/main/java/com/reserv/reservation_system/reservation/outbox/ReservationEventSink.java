@@ -0,0 +1,14 @@
+package com.reserv.reservation_system.reservation.outbox;
+
+import java.util.List;
+
+/**
+ * Destination of outbox messages. Called with the batch still locked: throwing
+ * rolls the batch back and it is retried on the next relay run, so delivery is
+ * at-least-once and implementations should tolerate duplicates
+ * (the outbox {@code id} is a natural deduplication key).
+ */
+public interface ReservationEventSink {
+
+    void publish(List<OutboxMessage> messages) throws Exception;
+}
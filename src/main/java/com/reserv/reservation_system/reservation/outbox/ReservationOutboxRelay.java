@@ -0,0 +1,102 @@
+package com.reserv.reservation_system.reservation.outbox;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Drains the outbox into the {@link ReservationEventSink} in batches. A batch is locked,
+ * published and deleted in one transaction; a failed publish leaves it in place for
+ * the next run. The pending gauge reports the count taken at the end of the last run,
+ * so scrapes don't query the table.
+ */
+@Component
+public class ReservationOutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(ReservationOutboxRelay.class);
+
+    private final ReservationOutboxRepository outboxRepository;
+    private final ReservationEventSink sink;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+
+    private final Counter published;
+    private final Counter failures;
+    private final AtomicLong pending = new AtomicLong();
+
+    public ReservationOutboxRelay(
+        ReservationOutboxRepository outboxRepository,
+        ReservationEventSink sink,
+        PlatformTransactionManager transactionManager,
+        MeterRegistry registry,
+        @Value("${reservation.outbox.enabled:true}") boolean enabled,
+        @Value("${reservation.outbox.batch-size:500}") int batchSize
+    ) {
+        this.outboxRepository = outboxRepository;
+        this.sink = sink;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.published = Counter.builder("reservation.outbox.published")
+            .description("Outbox messages handed to the sink")
+            .register(registry);
+        this.failures = Counter.builder("reservation.outbox.failures")
+            .description("Outbox batches that failed and will be retried")
+            .register(registry);
+        if (enabled) {
+            Gauge.builder("reservation.outbox.pending", pending, AtomicLong::get)
+                .description("Messages waiting in the outbox")
+                .register(registry);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${reservation.outbox.poll-interval:1s}")
+    public void relay() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Integer relayed;
+            do {
+                relayed = transactionTemplate.execute(status -> relayBatch());
+                if (relayed != null) {
+                    published.increment(relayed);
+                }
+            } while (relayed != null && relayed == batchSize);
+        } catch (RuntimeException e) {
+            failures.increment();
+            log.warn("Outbox relay failed, batch will be retried", e);
+        }
+        try {
+            pending.set(outboxRepository.count());
+        } catch (RuntimeException e) {
+            log.warn("Failed to count pending outbox messages", e);
+        }
+    }
+
+    private int relayBatch() {
+        List<OutboxMessage> batch = outboxRepository.lockNextBatch(batchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        try {
+            sink.publish(batch);
+        } catch (Exception e) {
+            throw new IllegalStateException("Sink rejected " + batch.size() + " outbox messages", e);
+        }
+        outboxRepository.deleteAll(batch);
+        return batch.size();
+    }
+}
@@ -0,0 +1,61 @@
+package com.reserv.reservation_system.reservation.outbox;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class ReservationOutboxRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ReservationOutboxRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void insert(String eventType, Long reservationId, String payload, Instant createdAt) {
+        jdbcTemplate.update("""
+                INSERT INTO reservation_outbox (event_type, reservation_id, payload, created_at)
+                VALUES (?, ?, ?, ?)
+                """,
+            eventType, reservationId, payload, Timestamp.from(createdAt));
+    }
+
+    /**
+     * Oldest unpublished messages, row-locked until the end of the transaction.
+     * Rows locked by another relay are skipped, so several nodes can drain in parallel.
+     */
+    public List<OutboxMessage> lockNextBatch(int batchSize) {
+        return jdbcTemplate.query("""
+                SELECT id, event_type, reservation_id, payload, created_at
+                FROM reservation_outbox
+                ORDER BY id
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+                """,
+            (rs, rowNum) -> new OutboxMessage(
+                rs.getLong("id"),
+                rs.getString("event_type"),
+                rs.getLong("reservation_id"),
+                rs.getString("payload"),
+                rs.getTimestamp("created_at").toInstant()
+            ),
+            batchSize);
+    }
+
+    public void deleteAll(List<OutboxMessage> messages) {
+        jdbcTemplate.batchUpdate(
+            "DELETE FROM reservation_outbox WHERE id = ?",
+            messages,
+            messages.size(),
+            (ps, message) -> ps.setLong(1, message.id()));
+    }
+
+    public long count() {
+        Long count = jdbcTemplate.queryForObject("SELECT count(*) FROM reservation_outbox", Long.class);
+        return count != null ? count : 0;
+    }
+}
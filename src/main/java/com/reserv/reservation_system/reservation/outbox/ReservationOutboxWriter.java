@@ -0,0 +1,57 @@
+package com.reserv.reservation_system.reservation.outbox;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reserv.reservation_system.reservation.events.ReservationChangedEvent;
+
+/**
+ * Stores every {@link ReservationChangedEvent} in the outbox synchronously, i.e. in the
+ * transaction of the change itself: the row commits or rolls back together with it.
+ */
+@Component
+public class ReservationOutboxWriter {
+
+    private final ReservationOutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+
+    public ReservationOutboxWriter(
+        ReservationOutboxRepository outboxRepository,
+        ObjectMapper objectMapper,
+        @Value("${reservation.outbox.enabled:true}") boolean enabled
+    ) {
+        this.outboxRepository = outboxRepository;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+    }
+
+    @EventListener
+    public void onReservationChanged(ReservationChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException(
+                "Reservation events must be published inside a transaction");
+        }
+        outboxRepository.insert(
+            event.type().name(),
+            event.reservation().id(),
+            toJson(event),
+            event.occurredAt()
+        );
+    }
+
+    private String toJson(ReservationChangedEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Can't serialize reservation event", e);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.reserv.reservation_system.reservation.persistence;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+import org.hibernate.annotations.Immutable;
+
+import com.reserv.reservation_system.reservation.domain.ReservationStatus;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Finished or cancelled reservation moved out of {@code reservations} by the archiver.
+ * Rows are only read, never changed, so the entity is immutable.
+ */
+@Immutable
+@Table(name = "reservations_archive")
+@Entity
+public class ArchivedReservationEntity {
+
+    @Id
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+    @Column(name = "room_id", nullable = false)
+    private Long roomId;
+    @Column(name = "start_date", nullable = false)
+    private LocalDate startDate;
+    @Column(name = "end_date", nullable = false)
+    private LocalDate endDate;
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private ReservationStatus status;
+    @Column(name = "version", nullable = false)
+    private Long version;
+    @Column(name = "archived_at", nullable = false)
+    private Instant archivedAt;
+
+    protected ArchivedReservationEntity() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Long getRoomId() {
+        return roomId;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public ReservationStatus getStatus() {
+        return status;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public Instant getArchivedAt() {
+        return archivedAt;
+    }
+}
@@ -0,0 +1,29 @@
+package com.reserv.reservation_system.reservation.persistence;
+
+import java.time.LocalDate;
+
+import com.reserv.reservation_system.reservation.domain.ReservationStatus;
+
+/**
+ * {@code version} is only read where the interval is written back conditionally,
+ * other reads leave it {@code null}.
+ */
+public record ReservationInterval(
+    Long id,
+    Long roomId,
+    LocalDate startDate,
+    LocalDate endDate,
+    ReservationStatus status,
+    Long version
+) {
+
+    public ReservationInterval(
+        Long id,
+        Long roomId,
+        LocalDate startDate,
+        LocalDate endDate,
+        ReservationStatus status
+    ) {
+        this(id, roomId, startDate, endDate, status, null);
+    }
+}
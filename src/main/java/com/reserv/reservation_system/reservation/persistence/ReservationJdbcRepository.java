@@ -0,0 +1,237 @@
+package com.reserv.reservation_system.reservation.persistence;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.reserv.reservation_system.reservation.domain.Reservation;
+import com.reserv.reservation_system.reservation.domain.ReservationStatus;
+
+@Repository
+public class ReservationJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final JdbcTemplate streamingJdbcTemplate;
+
+    public ReservationJdbcRepository(
+        JdbcTemplate jdbcTemplate,
+        @Value("${reservation.export.fetch-size:1000}") int fetchSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.streamingJdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.streamingJdbcTemplate.setFetchSize(fetchSize);
+    }
+
+    /**
+     * Moves every interval from {@code expected} to {@code target} status in one JDBC batch.
+     * A row is only updated if it still matches the loaded interval and its version,
+     * so the returned update count is 0 for reservations changed in the meantime
+     * and events built from the loaded rows describe what was actually updated.
+     */
+    public int[] updateStatuses(
+        List<ReservationInterval> intervals,
+        ReservationStatus expected,
+        ReservationStatus target
+    ) {
+        if (intervals.isEmpty()) {
+            return new int[0];
+        }
+        return jdbcTemplate.batchUpdate("""
+                UPDATE reservations
+                SET status = ?, version = version + 1
+                WHERE id = ?
+                AND status = ?
+                AND room_id = ?
+                AND start_date = ?
+                AND end_date = ?
+                AND version = ?
+                """,
+            intervals,
+            intervals.size(),
+            (ps, interval) -> {
+                ps.setString(1, target.name());
+                ps.setLong(2, interval.id());
+                ps.setString(3, expected.name());
+                ps.setLong(4, interval.roomId());
+                ps.setDate(5, Date.valueOf(interval.startDate()));
+                ps.setDate(6, Date.valueOf(interval.endDate()));
+                ps.setLong(7, interval.version());
+            })[0];
+    }
+
+    /**
+     * Intervals in {@code status} that overlap the range of their room, one statement.
+     * Every room is only read for its own range instead of the union of all of them.
+     */
+    public List<ReservationInterval> findOverlappingIntervals(
+        List<RoomDateRange> ranges,
+        ReservationStatus status
+    ) {
+        if (ranges.isEmpty()) {
+            return List.of();
+        }
+        var sql = new StringBuilder("""
+                SELECT id, room_id, start_date, end_date, status
+                FROM reservations
+                WHERE status = ?
+                AND (""");
+        List<Object> args = new ArrayList<>(1 + ranges.size() * 3);
+        args.add(status.name());
+        for (int i = 0; i < ranges.size(); i++) {
+            RoomDateRange range = ranges.get(i);
+            sql.append(i == 0 ? "" : " OR ").append("(room_id = ? AND ? < end_date AND start_date < ?)");
+            args.add(range.roomId());
+            args.add(Date.valueOf(range.startDate()));
+            args.add(Date.valueOf(range.endDate()));
+        }
+        sql.append(")");
+
+        return jdbcTemplate.query(sql.toString(),
+            (rs, rowNum) -> new ReservationInterval(
+                rs.getLong("id"),
+                rs.getLong("room_id"),
+                rs.getDate("start_date").toLocalDate(),
+                rs.getDate("end_date").toLocalDate(),
+                ReservationStatus.valueOf(rs.getString("status"))
+            ),
+            args.toArray());
+    }
+
+    /**
+     * Conditional update of a reservation still in {@code status} at {@code version}, one
+     * statement. Returns the reservation as it was before the update; empty if the row is
+     * missing, in another status or was changed concurrently.
+     */
+    public Optional<Reservation> updateIfVersion(
+        Long id,
+        Long version,
+        ReservationStatus status,
+        Long userId,
+        Long roomId,
+        LocalDate startDate,
+        LocalDate endDate
+    ) {
+        // The self-join reads the row as it was before the update.
+        return jdbcTemplate.query("""
+                UPDATE reservations r
+                SET user_id = ?, room_id = ?, start_date = ?, end_date = ?, version = r.version + 1
+                FROM reservations old
+                WHERE r.id = ?
+                AND old.id = r.id
+                AND r.version = ?
+                AND r.status = ?
+                RETURNING old.id, old.user_id, old.room_id, old.start_date, old.end_date,
+                    old.status, old.version
+                """,
+            (rs, rowNum) -> new Reservation(
+                rs.getLong("id"),
+                rs.getLong("user_id"),
+                rs.getLong("room_id"),
+                rs.getDate("start_date").toLocalDate(),
+                rs.getDate("end_date").toLocalDate(),
+                ReservationStatus.valueOf(rs.getString("status")),
+                rs.getLong("version")
+            ),
+            userId, roomId, Date.valueOf(startDate), Date.valueOf(endDate),
+            id, version, status.name()).stream().findFirst();
+    }
+
+    /**
+     * Moves up to {@code batchSize} reservations that ended before {@code endedBefore}, whatever
+     * their status, into {@code reservations_archive} with one statement.
+     * Rows locked by a running transaction are skipped and picked up by a later batch.
+     */
+    public List<ReservationInterval> archiveBatch(LocalDate endedBefore, int batchSize) {
+        return jdbcTemplate.query("""
+                WITH moved AS (
+                    DELETE FROM reservations
+                    WHERE id IN (
+                        SELECT id FROM reservations
+                        WHERE end_date < ?
+                        ORDER BY id
+                        LIMIT ?
+                        FOR UPDATE SKIP LOCKED
+                    )
+                    RETURNING id, user_id, room_id, start_date, end_date, status, version
+                )
+                INSERT INTO reservations_archive
+                    (id, user_id, room_id, start_date, end_date, status, version)
+                SELECT id, user_id, room_id, start_date, end_date, status, version FROM moved
+                RETURNING id, room_id, start_date, end_date, status
+                """,
+            (rs, rowNum) -> new ReservationInterval(
+                rs.getLong("id"),
+                rs.getLong("room_id"),
+                rs.getDate("start_date").toLocalDate(),
+                rs.getDate("end_date").toLocalDate(),
+                ReservationStatus.valueOf(rs.getString("status"))
+            ),
+            Date.valueOf(endedBefore),
+            batchSize);
+    }
+
+    /**
+     * Passes matching live and archived reservations to {@code consumer} one by one while reading them
+     * with a forward-only cursor. Must run inside a transaction: the PostgreSQL driver
+     * only honours the fetch size when autocommit is off.
+     */
+    public void streamReservations(
+        Long roomId,
+        Long userId,
+        ReservationStatus status,
+        LocalDate from,
+        LocalDate to,
+        Consumer<Reservation> consumer
+    ) {
+        // Archived rows are part of the history an export is taken for.
+        var sql = new StringBuilder("""
+                SELECT id, user_id, room_id, start_date, end_date, status, version
+                FROM\s""").append(ReservationSearchRepositoryImpl.LIVE_AND_ARCHIVED).append("""
+                 r
+                WHERE 1 = 1
+                """);
+        List<Object> args = new ArrayList<>();
+
+        if (roomId != null) {
+            sql.append(" AND room_id = ?");
+            args.add(roomId);
+        }
+        if (userId != null) {
+            sql.append(" AND user_id = ?");
+            args.add(userId);
+        }
+        if (status != null) {
+            sql.append(" AND status = ?");
+            args.add(status.name());
+        }
+        if (from != null) {
+            sql.append(" AND end_date > ?");
+            args.add(Date.valueOf(from));
+        }
+        if (to != null) {
+            sql.append(" AND start_date < ?");
+            args.add(Date.valueOf(to));
+        }
+        sql.append(" ORDER BY id");
+
+        streamingJdbcTemplate.query(sql.toString(), rs -> {
+            consumer.accept(new Reservation(
+                rs.getLong("id"),
+                rs.getLong("user_id"),
+                rs.getLong("room_id"),
+                rs.getDate("start_date").toLocalDate(),
+                rs.getDate("end_date").toLocalDate(),
+                ReservationStatus.valueOf(rs.getString("status")),
+                rs.getLong("version")
+            ));
+        }, args.toArray());
+    }
+}
@@ -1,29 +1,38 @@
 package com.reserv.reservation_system.reservation.persistence;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import com.reserv.reservation_system.reservation.domain.Reservation;
 import com.reserv.reservation_system.reservation.domain.ReservationStatus;
 
-import jakarta.persistence.LockModeType;
-
-public interface ReservationRepository extends JpaRepository<ReservationEntity, Long> {
+public interface ReservationRepository extends JpaRepository<ReservationEntity, Long>,
+        ReservationSearchRepository {
     
+    /**
+     * Moves the reservation to {@code status} only if it is still in {@code expected} at
+     * {@code version}. Returns the number of updated rows, 0 if it was changed concurrently.
+     */
     @Modifying
     @Query("""
         UPDATE ReservationEntity r
-        SET r.status = :status
+        SET r.status = :status, r.version = r.version + 1
         WHERE r.id = :id
+        AND r.status = :expected
+        AND r.version = :version
     """)
-    void setStatus(
+    int setStatus(
         @Param("id") Long id,
+        @Param("expected") ReservationStatus expected,
+        @Param("version") Long version,
         @Param("status") ReservationStatus status
     );
 
@@ -42,28 +51,82 @@ public interface ReservationRepository extends JpaRepository<ReservationEntity,
     );
 
     @Query("""
-        SELECT r from ReservationEntity r
-        WHERE (:roomId IS NULL OR r.roomId = :roomId)
-        AND (:userId IS NULL OR r.userId = :userId)
+        SELECT new com.reserv.reservation_system.reservation.domain.Reservation(
+            r.id, r.userId, r.roomId, r.startDate, r.endDate, r.status, r.version
+        )
+        FROM ReservationEntity r
+        WHERE r.id = :id
     """)
-    List<ReservationEntity> searchAllByFilter(
-        @Param("roomId") Long roomId,
-        @Param("userId") Long userId,
-        Pageable pageable
+    Optional<Reservation> findReservationById(@Param("id") Long id);
+
+    @Query("""
+        SELECT new com.reserv.reservation_system.reservation.domain.Reservation(
+            r.id, r.userId, r.roomId, r.startDate, r.endDate, r.status, r.version
+        )
+        FROM ArchivedReservationEntity r
+        WHERE r.id = :id
+    """)
+    Optional<Reservation> findArchivedReservationById(@Param("id") Long id);
+
+    @Query("""
+        SELECT r.roomId FROM ReservationEntity r
+        WHERE r.id = :id
+    """)
+    Optional<Long> findRoomIdById(@Param("id") Long id);
+
+    @Query("""
+        SELECT DISTINCT r.roomId FROM ReservationEntity r
+        WHERE r.roomId > :afterRoomId
+        ORDER BY r.roomId
+    """)
+    List<Long> findRoomIdsAfter(
+        @Param("afterRoomId") Long afterRoomId,
+        Limit limit
     );
 
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("""
-        SELECT r FROM ReservationEntity r
-        WHERE r.roomId = :roomId
-        AND r.status = :status
+        SELECT DISTINCT r.roomId FROM ReservationEntity r
+        WHERE r.status = :status
+        AND r.roomId > :afterRoomId
+        ORDER BY r.roomId
+    """)
+    List<Long> findRoomIdsWithStatusAfter(
+        @Param("status") ReservationStatus status,
+        @Param("afterRoomId") Long afterRoomId,
+        Limit limit
+    );
+
+    List<ReservationEntity> findByRoomIdAndStatusOrderById(
+        Long roomId,
+        ReservationStatus status,
+        Limit limit
+    );
+
+    @Query("""
+        SELECT new com.reserv.reservation_system.reservation.persistence.ReservationInterval(
+            r.id, r.roomId, r.startDate, r.endDate, r.status
+        )
+        FROM ReservationEntity r
+        WHERE r.status = :status
+    """)
+    List<ReservationInterval> findAllIntervalsByStatus(
+        @Param("status") ReservationStatus status
+    );
+
+    @Query("""
+        SELECT new com.reserv.reservation_system.reservation.persistence.ReservationInterval(
+            r.id, r.roomId, r.startDate, r.endDate, r.status
+        )
+        FROM ReservationEntity r
+        WHERE r.roomId IN :roomIds
+        AND r.status IN :statuses
         AND :startDate < r.endDate
         AND r.startDate < :endDate
     """)
-    List<ReservationEntity> findAndLockConflictingReservations(
-        @Param("roomId") Long roomId,
-        @Param("startDate") LocalDate starDate,
-        @Param("endDate") LocalDate enDate,
-        @Param("status") ReservationStatus status
+    List<ReservationInterval> findOverlappingIntervals(
+        @Param("roomIds") Collection<Long> roomIds,
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate,
+        @Param("statuses") Collection<ReservationStatus> statuses
     );
 }
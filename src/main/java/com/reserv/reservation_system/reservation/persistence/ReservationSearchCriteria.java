@@ -0,0 +1,23 @@
+package com.reserv.reservation_system.reservation.persistence;
+
+import java.time.LocalDate;
+
+import com.reserv.reservation_system.reservation.domain.ReservationStatus;
+
+/**
+ * Filter for {@link ReservationSearchRepository#search}. Rows are returned ordered by
+ * {@code sortKey} and id. With {@code afterId} set, the search continues right after
+ * that row (keyset paging) and {@code offset} is ignored.
+ */
+public record ReservationSearchCriteria(
+    Long roomId,
+    Long userId,
+    ReservationStatus status,
+    ReservationSortKey sortKey,
+    LocalDate afterStartDate,
+    Long afterId,
+    int offset,
+    int limit
+) {
+    
+}
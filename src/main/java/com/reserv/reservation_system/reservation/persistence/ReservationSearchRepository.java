@@ -0,0 +1,13 @@
+package com.reserv.reservation_system.reservation.persistence;
+
+import java.util.List;
+
+import com.reserv.reservation_system.reservation.domain.Reservation;
+
+public interface ReservationSearchRepository {
+
+    /**
+     * Live and archived rows projected straight into {@link Reservation}, no managed entities.
+     */
+    List<Reservation> search(ReservationSearchCriteria criteria);
+}
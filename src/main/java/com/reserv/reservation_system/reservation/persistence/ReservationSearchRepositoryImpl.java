@@ -0,0 +1,101 @@
+package com.reserv.reservation_system.reservation.persistence;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.query.NativeQuery;
+
+import com.reserv.reservation_system.reservation.domain.Reservation;
+import com.reserv.reservation_system.reservation.domain.ReservationStatus;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+class ReservationSearchRepositoryImpl implements ReservationSearchRepository {
+
+    /**
+     * Live and archived rows as one relation. PostgreSQL pushes the filters into both
+     * branches and reads them with a merge append over the matching indexes, so
+     * ordering and paging stay in the database.
+     */
+    static final String LIVE_AND_ARCHIVED = """
+        (SELECT id, user_id, room_id, start_date, end_date, status, version FROM reservations
+        UNION ALL
+        SELECT id, user_id, room_id, start_date, end_date, status, version FROM reservations_archive)""";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Searches live and archived reservations with a single statement, so a row moved by
+     * the archiver while the query runs is seen in exactly one of the tables.
+     */
+    @Override
+    public List<Reservation> search(ReservationSearchCriteria criteria) {
+        // Only the predicates of the actual filter combination are rendered,
+        // so the planner can pick the matching index instead of a catch-all plan.
+        var sql = new StringBuilder("""
+            SELECT r.id, r.user_id, r.room_id, r.start_date, r.end_date, r.status, r.version
+            FROM\s""").append(LIVE_AND_ARCHIVED).append(" r WHERE 1 = 1");
+        Map<String, Object> params = new HashMap<>();
+
+        if (criteria.roomId() != null) {
+            sql.append(" AND r.room_id = :roomId");
+            params.put("roomId", criteria.roomId());
+        }
+        if (criteria.userId() != null) {
+            sql.append(" AND r.user_id = :userId");
+            params.put("userId", criteria.userId());
+        }
+        if (criteria.status() != null) {
+            sql.append(" AND r.status = :status");
+            params.put("status", criteria.status().name());
+        }
+
+        boolean keyset = criteria.afterId() != null;
+        if (criteria.sortKey() == ReservationSortKey.START_DATE) {
+            if (keyset) {
+                sql.append(" AND (r.start_date > :afterStartDate"
+                    + " OR (r.start_date = :afterStartDate AND r.id > :afterId))");
+                params.put("afterStartDate", criteria.afterStartDate());
+                params.put("afterId", criteria.afterId());
+            }
+            sql.append(" ORDER BY r.start_date, r.id");
+        } else {
+            if (keyset) {
+                sql.append(" AND r.id > :afterId");
+                params.put("afterId", criteria.afterId());
+            }
+            sql.append(" ORDER BY r.id");
+        }
+
+        @SuppressWarnings("unchecked")
+        NativeQuery<Reservation> query = entityManager.createNativeQuery(sql.toString())
+            .unwrap(NativeQuery.class);
+        query.addScalar("id", Long.class)
+            .addScalar("user_id", Long.class)
+            .addScalar("room_id", Long.class)
+            .addScalar("start_date", LocalDate.class)
+            .addScalar("end_date", LocalDate.class)
+            .addScalar("status", String.class)
+            .addScalar("version", Long.class)
+            .setTupleTransformer((tuple, aliases) -> new Reservation(
+                (Long) tuple[0],
+                (Long) tuple[1],
+                (Long) tuple[2],
+                (LocalDate) tuple[3],
+                (LocalDate) tuple[4],
+                ReservationStatus.valueOf((String) tuple[5]),
+                (Long) tuple[6]
+            ))
+            .setMaxResults(criteria.limit());
+        if (!keyset && criteria.offset() > 0) {
+            query.setFirstResult(criteria.offset());
+        }
+        params.forEach(query::setParameter);
+
+        return query.getResultList();
+    }
+}
@@ -0,0 +1,6 @@
+package com.reserv.reservation_system.reservation.persistence;
+
+public enum ReservationSortKey {
+    ID,
+    START_DATE
+}
@@ -0,0 +1,14 @@
+package com.reserv.reservation_system.reservation.persistence;
+
+import java.time.LocalDate;
+
+/**
+ * Half-open dates {@code [startDate, endDate)} to look up in one room.
+ */
+public record RoomDateRange(
+    Long roomId,
+    LocalDate startDate,
+    LocalDate endDate
+) {
+
+}
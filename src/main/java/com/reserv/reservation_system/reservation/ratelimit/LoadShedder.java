@@ -0,0 +1,130 @@
+package com.reserv.reservation_system.reservation.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Watches how long requests wait for a connection of the primary pool. Once the mean
+ * wait of the last sample crosses {@code reservation.load-shedding.max-acquire-wait}, or a
+ * request timed out waiting, rate-limited endpoints are answered with 503 right away
+ * until a later sample is below the threshold again, instead of queueing for the pool.
+ * Samples are taken on a thread of their own, so long scheduled jobs can't hold
+ * the decision back.
+ */
+@Component
+public class LoadShedder implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadShedder.class);
+
+    private final MeterRegistry registry;
+    private final String poolName;
+    private final boolean enabled;
+    private final long maxAcquireWaitNanos;
+    private final Duration sampleInterval;
+    private final ScheduledExecutorService sampler;
+
+    private long lastCount;
+    private double lastTotalNanos;
+    private double lastTimeouts;
+
+    private volatile boolean overloaded;
+
+    public LoadShedder(
+        MeterRegistry registry,
+        @Value("${spring.datasource.hikari.pool-name:primary}") String poolName,
+        @Value("${reservation.load-shedding.enabled:true}") boolean enabled,
+        @Value("${reservation.load-shedding.max-acquire-wait:200ms}") Duration maxAcquireWait,
+        @Value("${reservation.load-shedding.sample-interval:1s}") Duration sampleInterval
+    ) {
+        this.registry = registry;
+        this.poolName = poolName;
+        this.enabled = enabled;
+        this.maxAcquireWaitNanos = maxAcquireWait.toNanos();
+        this.sampleInterval = sampleInterval;
+        this.sampler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("load-shedder").daemon().factory());
+        Gauge.builder("reservation.load-shedding.active", this, it -> it.overloaded ? 1 : 0)
+            .register(registry);
+    }
+
+    public boolean isOverloaded() {
+        return overloaded;
+    }
+
+    /** How long a shed client should wait before retrying. */
+    public Duration retryAfter() {
+        return sampleInterval;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startSampling() {
+        if (enabled) {
+            long interval = sampleInterval.toNanos();
+            sampler.scheduleWithFixedDelay(this::sampleSafely, interval, interval, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        sampler.shutdownNow();
+    }
+
+    private void sampleSafely() {
+        try {
+            sample();
+        } catch (RuntimeException e) {
+            // An exception would cancel the periodic task.
+            log.warn("Load shedding sample failed", e);
+        }
+    }
+
+    public void sample() {
+        if (!enabled) {
+            return;
+        }
+        // The pool registers its meters when it starts, so they may not exist yet.
+        Timer acquire = registry.find("hikaricp.connections.acquire").tag("pool", poolName).timer();
+        if (acquire == null) {
+            return;
+        }
+        Counter timeoutCounter = registry.find("hikaricp.connections.timeout").tag("pool", poolName).counter();
+
+        long count = acquire.count();
+        double totalNanos = acquire.totalTime(TimeUnit.NANOSECONDS);
+        double timeouts = timeoutCounter != null ? timeoutCounter.count() : 0;
+
+        long acquired = count - lastCount;
+        double meanWaitNanos = acquired > 0 ? (totalNanos - lastTotalNanos) / acquired : 0;
+        boolean nowOverloaded = timeouts > lastTimeouts || meanWaitNanos >= maxAcquireWaitNanos;
+
+        lastCount = count;
+        lastTotalNanos = totalNanos;
+        lastTimeouts = timeouts;
+
+        if (nowOverloaded != overloaded) {
+            overloaded = nowOverloaded;
+            if (nowOverloaded) {
+                log.warn("Shedding load: mean wait for a {} connection is {} ms",
+                    poolName, TimeUnit.NANOSECONDS.toMillis((long) meanWaitNanos));
+            } else {
+                log.info("Stopped shedding load, mean wait for a {} connection is {} ms",
+                    poolName, TimeUnit.NANOSECONDS.toMillis((long) meanWaitNanos));
+            }
+        }
+    }
+}
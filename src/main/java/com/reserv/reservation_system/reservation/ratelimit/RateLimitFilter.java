@@ -0,0 +1,197 @@
+package com.reserv.reservation_system.reservation.ratelimit;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.reserv.reservation_system.common.exception.ErrorResponseDto;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Per-client token buckets in front of the mutations of {@code ReservationController} and
+ * the availability checks. A client is identified by {@code reservation.rate-limit.client-header}
+ * and falls back to its remote address. Requests over the limit get 429, requests arriving
+ * while {@link LoadShedder} reports an overloaded pool get 503, both with {@code Retry-After}
+ * and before the body is read. Runs ahead of the idempotency filter, so a rejected request
+ * does not claim its key.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final int MAX_CLIENT_ID_LENGTH = 128;
+
+    private static final String BASE_PATH = "/reservation";
+
+    private static final String AVAILABILITY_PATH = BASE_PATH + "/availability";
+
+    /** Sub-paths of {@code /reservation} served by other controllers. */
+    private static final Set<String> OTHER_CONTROLLERS =
+        Set.of("availability", "export", "events", "summary");
+
+    enum Kind { MUTATION, CHECK }
+
+    private enum Result { ALLOWED, LIMITED, SHED }
+
+    private final LoadShedder shedder;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final String clientHeader;
+    private final Map<Kind, Limit> limits = new EnumMap<>(Kind.class);
+
+    /** A bucket idle for longer than a full refill would be full again, so it can go. */
+    private final Cache<String, TokenBucket> buckets;
+
+    private final Map<Kind, Map<Result, Counter>> requests = new EnumMap<>(Kind.class);
+
+    private record Limit(double perSecond, int burst) {
+
+        Duration refill() {
+            return Duration.ofNanos((long) Math.ceil(burst / perSecond * 1_000_000_000L));
+        }
+    }
+
+    public RateLimitFilter(
+        LoadShedder shedder,
+        ObjectMapper objectMapper,
+        MeterRegistry registry,
+        @Value("${reservation.rate-limit.enabled:true}") boolean enabled,
+        @Value("${reservation.rate-limit.client-header:X-Client-Id}") String clientHeader,
+        @Value("${reservation.rate-limit.max-clients:100000}") long maxClients,
+        @Value("${reservation.rate-limit.mutations.per-second:20}") double mutationsPerSecond,
+        @Value("${reservation.rate-limit.mutations.burst:40}") int mutationsBurst,
+        @Value("${reservation.rate-limit.checks.per-second:100}") double checksPerSecond,
+        @Value("${reservation.rate-limit.checks.burst:200}") int checksBurst
+    ) {
+        this.shedder = shedder;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.clientHeader = clientHeader;
+        limits.put(Kind.MUTATION, new Limit(mutationsPerSecond, mutationsBurst));
+        limits.put(Kind.CHECK, new Limit(checksPerSecond, checksBurst));
+
+        Duration idle = limits.values().stream()
+            .map(Limit::refill)
+            .max(Duration::compareTo)
+            .orElseThrow();
+        this.buckets = Caffeine.newBuilder()
+            .maximumSize(maxClients)
+            .expireAfterAccess(idle)
+            .build();
+
+        for (Kind kind : Kind.values()) {
+            Map<Result, Counter> byResult = new EnumMap<>(Result.class);
+            for (Result result : Result.values()) {
+                byResult.put(result, Counter.builder("reservation.rate-limit.requests")
+                    .tag("kind", kind.name().toLowerCase())
+                    .tag("result", result.name().toLowerCase())
+                    .register(registry));
+            }
+            requests.put(kind, byResult);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || kind(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(
+        HttpServletRequest request,
+        HttpServletResponse response,
+        FilterChain chain
+    ) throws ServletException, IOException {
+        Kind kind = kind(request);
+
+        if (shedder.isOverloaded()) {
+            requests.get(kind).get(Result.SHED).increment();
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, shedder.retryAfter().toNanos(),
+                "Service overloaded", "The database is overloaded. Retry later");
+            return;
+        }
+
+        Limit limit = limits.get(kind);
+        TokenBucket bucket = buckets.get(kind.name() + ':' + clientId(request),
+            key -> new TokenBucket(limit.perSecond(), limit.burst()));
+        long waitNanos = bucket.tryAcquire(System.nanoTime());
+        if (waitNanos > 0) {
+            requests.get(kind).get(Result.LIMITED).increment();
+            reject(response, HttpStatus.TOO_MANY_REQUESTS, waitNanos,
+                "Too many requests", "Rate limit of " + limit.perSecond() + " requests per second exceeded");
+            return;
+        }
+
+        requests.get(kind).get(Result.ALLOWED).increment();
+        chain.doFilter(request, response);
+    }
+
+    static Kind kind(HttpServletRequest request) {
+        String method = request.getMethod();
+        if ("GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method)) {
+            return null;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (path.equals(BASE_PATH)) {
+            return Kind.MUTATION;
+        }
+        if (path.equals(AVAILABILITY_PATH + "/check") || path.equals(AVAILABILITY_PATH + "/check/batch")) {
+            return Kind.CHECK;
+        }
+        if (!path.startsWith(BASE_PATH + "/")) {
+            return null;
+        }
+        String segment = path.substring(BASE_PATH.length() + 1);
+        int slash = segment.indexOf('/');
+        return OTHER_CONTROLLERS.contains(slash < 0 ? segment : segment.substring(0, slash))
+            ? null
+            : Kind.MUTATION;
+    }
+
+    private String clientId(HttpServletRequest request) {
+        String header = request.getHeader(clientHeader);
+        if (header != null) {
+            header = header.strip();
+            if (!header.isEmpty() && header.length() <= MAX_CLIENT_ID_LENGTH) {
+                return header;
+            }
+        }
+        return request.getRemoteAddr();
+    }
+
+    private void reject(
+        HttpServletResponse response,
+        HttpStatus status,
+        long retryAfterNanos,
+        String message,
+        String errorMessage
+    ) throws IOException {
+        long retryAfterSeconds = Math.max(1, (retryAfterNanos + 999_999_999L) / 1_000_000_000L);
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(),
+            new ErrorResponseDto(message, errorMessage, LocalDateTime.now()));
+    }
+}
@@ -0,0 +1,44 @@
+package com.reserv.reservation_system.reservation.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket refilled at {@code perSecond} tokens up to {@code burst}, kept as the single
+ * timestamp at which it will be full again (GCRA). Taking a token is one compare-and-set,
+ * so concurrent requests of one client never block each other.
+ */
+final class TokenBucket {
+
+    private final long intervalNanos;
+    private final long capacityNanos;
+
+    /** Moment at which the bucket is full again; in the past for a full bucket. */
+    private final AtomicLong fullAt = new AtomicLong(Long.MIN_VALUE);
+
+    TokenBucket(double perSecond, int burst) {
+        if (perSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("Rate limit needs a positive rate and a burst of at least 1");
+        }
+        this.intervalNanos = Math.max(1, Math.round(1_000_000_000L / perSecond));
+        this.capacityNanos = intervalNanos * burst;
+    }
+
+    /**
+     * Takes a token.
+     *
+     * @return 0 if a token was taken, otherwise the nanos until the next one is available
+     */
+    long tryAcquire(long nowNanos) {
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, nowNanos) + intervalNanos;
+            long debt = next - nowNanos;
+            if (debt > capacityNanos) {
+                return debt - capacityNanos;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+}
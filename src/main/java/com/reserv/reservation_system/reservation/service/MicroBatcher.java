@@ -0,0 +1,138 @@
+package com.reserv.reservation_system.reservation.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Groups items submitted by concurrent callers and hands them to {@code flushAction}
+ * together: a batch is flushed once it reaches {@code maxBatchSize} items or
+ * {@code lingerNanos} after its first item arrived. Items arriving during a flush
+ * wait for the next one, so batches grow with load on their own.
+ * If a batch fails, its items are retried one by one so a single bad item
+ * only fails its own caller, so {@code flushAction} must accept the same items again.
+ * Items whose caller stopped waiting (their future is already done) are dropped
+ * before the flush.
+ */
+final class MicroBatcher<T, R> implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(MicroBatcher.class);
+
+    private final BlockingQueue<Pending<T, R>> queue;
+    private final Function<List<T>, List<R>> flushAction;
+    private final Consumer<Integer> batchSizeListener;
+    private final int maxBatchSize;
+    private final long lingerNanos;
+    private final Thread flusher;
+
+    private volatile boolean closed;
+
+    MicroBatcher(
+        String name,
+        int maxBatchSize,
+        long lingerNanos,
+        int queueCapacity,
+        Function<List<T>, List<R>> flushAction,
+        Consumer<Integer> batchSizeListener
+    ) {
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.flushAction = flushAction;
+        this.batchSizeListener = batchSizeListener;
+        this.maxBatchSize = maxBatchSize;
+        this.lingerNanos = lingerNanos;
+        this.flusher = Thread.ofPlatform().name(name).daemon().start(this::run);
+    }
+
+    CompletableFuture<R> submit(T item) {
+        var pending = new Pending<T, R>(item, new CompletableFuture<>());
+        if (closed || !queue.offer(pending)) {
+            throw new RejectedExecutionException("Too many requests are waiting to be saved");
+        }
+        return pending.result();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        flusher.interrupt();
+        Pending<T, R> pending;
+        while ((pending = queue.poll()) != null) {
+            pending.result().completeExceptionally(new RejectedExecutionException("Shutting down"));
+        }
+    }
+
+    private void run() {
+        List<Pending<T, R>> batch = new ArrayList<>(maxBatchSize);
+        while (!closed) {
+            try {
+                batch.add(queue.take());
+                long deadline = System.nanoTime() + lingerNanos;
+                while (batch.size() < maxBatchSize) {
+                    queue.drainTo(batch, maxBatchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= maxBatchSize || remaining <= 0) {
+                        break;
+                    }
+                    Pending<T, R> next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                batch.removeIf(it -> it.result().isDone());
+                if (!batch.isEmpty()) {
+                    flush(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                batch.forEach(it -> it.result().completeExceptionally(
+                    new RejectedExecutionException("Shutting down")));
+                return;
+            } catch (Throwable e) {
+                // Keep the flusher alive: a dead flusher would leave every later caller waiting.
+                log.error("Flushing a batch of {} failed", batch.size(), e);
+                batch.forEach(it -> it.result().completeExceptionally(e));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<Pending<T, R>> batch) {
+        batchSizeListener.accept(batch.size());
+        try {
+            complete(batch, flushAction.apply(batch.stream().map(Pending::item).toList()));
+        } catch (Throwable e) {
+            if (batch.size() == 1) {
+                batch.get(0).result().completeExceptionally(e);
+                return;
+            }
+            log.warn("Batch of {} failed, retrying items one by one: {}", batch.size(), e.getMessage());
+            for (Pending<T, R> pending : batch) {
+                try {
+                    complete(List.of(pending), flushAction.apply(List.of(pending.item())));
+                } catch (Throwable single) {
+                    pending.result().completeExceptionally(single);
+                }
+            }
+        }
+    }
+
+    private static <T, R> void complete(List<Pending<T, R>> batch, List<R> results) {
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).result().complete(results.get(i));
+        }
+    }
+
+    private record Pending<T, R>(T item, CompletableFuture<R> result) {
+    }
+}
@@ -0,0 +1,12 @@
+package com.reserv.reservation_system.reservation.service;
+
+/**
+ * Outcome of resolving the pending reservations of one room.
+ */
+public record PendingResolution(
+    Long roomId,
+    int approved,
+    int rejected
+) {
+    
+}
@@ -0,0 +1,391 @@
+package com.reserv.reservation_system.reservation.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.reserv.reservation_system.common.datasource.DataSourceRouting;
+import com.reserv.reservation_system.common.metrics.ReservationMetrics;
+import com.reserv.reservation_system.reservation.api.dto.BulkOperationResult;
+import com.reserv.reservation_system.reservation.availability.ApprovedReservationIndex;
+import com.reserv.reservation_system.reservation.domain.Reservation;
+import com.reserv.reservation_system.reservation.domain.ReservationStatus;
+import com.reserv.reservation_system.reservation.events.ReservationChangeType;
+import com.reserv.reservation_system.reservation.events.ReservationChangedEvent;
+import com.reserv.reservation_system.reservation.persistence.ReservationEntity;
+import com.reserv.reservation_system.reservation.persistence.ReservationInterval;
+import com.reserv.reservation_system.reservation.persistence.ReservationJdbcRepository;
+import com.reserv.reservation_system.reservation.persistence.ReservationRepository;
+
+@Service
+public class ReservationBulkService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReservationBulkService.class);
+
+    private final ReservationRepository repository;
+
+    private final ReservationJdbcRepository jdbcRepository;
+
+    private final ApprovedReservationIndex approvedIndex;
+
+    private final RoomApprovalLocks roomLocks;
+
+    private final ReservationMetrics metrics;
+
+    private final ReservationCache cache;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public ReservationBulkService(
+        ReservationRepository repository,
+        ReservationJdbcRepository jdbcRepository,
+        ApprovedReservationIndex approvedIndex,
+        RoomApprovalLocks roomLocks,
+        ReservationMetrics metrics,
+        ReservationCache cache,
+        ApplicationEventPublisher eventPublisher,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.repository = repository;
+        this.jdbcRepository = jdbcRepository;
+        this.approvedIndex = approvedIndex;
+        this.roomLocks = roomLocks;
+        this.metrics = metrics;
+        this.cache = cache;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public List<BulkOperationResult> approveReservations(List<Long> ids) {
+        return metrics.record("bulk-approve", () -> DataSourceRouting.onPrimary(() -> approveAll(ids)));
+    }
+
+    public List<BulkOperationResult> cancelReservations(List<Long> ids) {
+        return metrics.record("bulk-cancel", () -> DataSourceRouting.onPrimary(() -> cancelAll(ids)));
+    }
+
+    /**
+     * Approves the oldest pending reservations of the room that don't conflict,
+     * in creation order, and rejects the rest. One transaction under the room lock.
+     */
+    public PendingResolution resolvePending(Long roomId, int limit) {
+        return DataSourceRouting.onPrimary(() -> roomLocks.withLocks(Set.of(roomId),
+            () -> transactionTemplate.execute(status -> resolvePendingLocked(roomId, limit))
+        ));
+    }
+
+    private List<BulkOperationResult> approveAll(List<Long> ids) {
+
+        List<Long> distinctIds = ids.stream().distinct().toList();
+        Map<Long, ReservationEntity> entities = loadAll(distinctIds);
+        Map<Long, BulkOperationResult> results = new HashMap<>();
+
+        List<ReservationInterval> candidates = new ArrayList<>();
+        for (Long id : distinctIds) {
+            ReservationEntity entity = entities.get(id);
+            if (entity == null) {
+                results.put(id, notFound(id));
+            } else if (entity.getStatus() != ReservationStatus.PENDING) {
+                results.put(id, BulkOperationResult.failure(id, entity.getStatus(),
+                    "Can't approve reservation with status=" + entity.getStatus()));
+            } else {
+                candidates.add(toInterval(entity));
+            }
+        }
+
+        if (!candidates.isEmpty()) {
+            candidates.sort(Comparator.comparing(ReservationInterval::id));
+            Set<Long> roomIds = candidates.stream()
+                    .map(ReservationInterval::roomId)
+                    .collect(Collectors.toSet());
+
+            roomLocks.withLocks(roomIds, () -> {
+                try {
+                    transactionTemplate.executeWithoutResult(
+                        status -> approveLocked(candidates, roomIds, entities, results)
+                    );
+                } catch (DataIntegrityViolationException e) {
+                    // The room locks are local to this node, so another node may have approved
+                    // an overlapping reservation and the exclusion constraint rolled the whole
+                    // batch back. Retry room by room, so only the affected room is lost.
+                    log.warn("Bulk approve hit a concurrent approval, retrying room by room: {}",
+                            e.getMostSpecificCause().getMessage());
+                    approveRoomByRoom(candidates, entities, results);
+                }
+                return null;
+            });
+        }
+
+        log.info("Bulk approve finished: requested={}, approved={}",
+                distinctIds.size(), countSucceeded(results));
+        return distinctIds.stream().map(results::get).toList();
+    }
+
+    private List<BulkOperationResult> cancelAll(List<Long> ids) {
+
+        List<Long> distinctIds = ids.stream().distinct().toList();
+        Map<Long, ReservationEntity> entities = loadAll(distinctIds);
+        Map<Long, BulkOperationResult> results = new HashMap<>();
+
+        List<ReservationInterval> candidates = new ArrayList<>();
+        for (Long id : distinctIds) {
+            ReservationEntity entity = entities.get(id);
+            if (entity == null) {
+                results.put(id, notFound(id));
+            } else if (entity.getStatus() == ReservationStatus.APPROVED) {
+                results.put(id, BulkOperationResult.failure(id, entity.getStatus(),
+                    "Cannot cancel approved reservation. Contact with us"));
+            } else if (entity.getStatus() == ReservationStatus.CANCELLED) {
+                results.put(id, BulkOperationResult.failure(id, entity.getStatus(),
+                    "The reservation is already cancelled"));
+            } else if (entity.getStatus() == ReservationStatus.REJECTED) {
+                results.put(id, BulkOperationResult.failure(id, entity.getStatus(),
+                    "The reservation was rejected because of conflicts"));
+            } else {
+                candidates.add(toInterval(entity));
+            }
+        }
+
+        if (!candidates.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> {
+                int[] updated = jdbcRepository.updateStatuses(
+                    candidates, ReservationStatus.PENDING, ReservationStatus.CANCELLED
+                );
+                collectUpdates(candidates, updated, ReservationStatus.CANCELLED, results);
+                cache.evictAllAfterCommit(updatedIds(candidates, updated));
+                publishChanges(candidates, updated, entities,
+                    ReservationChangeType.CANCELLED, ReservationStatus.CANCELLED);
+            });
+        }
+
+        log.info("Bulk cancel finished: requested={}, cancelled={}",
+                distinctIds.size(), countSucceeded(results));
+        return distinctIds.stream().map(results::get).toList();
+    }
+
+    private void approveLocked(
+        List<ReservationInterval> candidates,
+        Set<Long> roomIds,
+        Map<Long, ReservationEntity> entities,
+        Map<Long, BulkOperationResult> results
+    ) {
+        List<ReservationInterval> approved = repository.findOverlappingIntervals(
+                roomIds, minStartDate(candidates), maxEndDate(candidates),
+                List.of(ReservationStatus.APPROVED)
+        );
+
+        var resolution = RoomConflictResolver.resolve(candidates, approved);
+        resolution.accepted().forEach(it -> metrics.recordBulkConflicts(0));
+        resolution.rejected().values().forEach(it -> metrics.recordBulkConflicts(it.size()));
+        resolution.rejected().forEach((id, conflicts) -> results.put(id,
+                BulkOperationResult.failure(id, ReservationStatus.PENDING,
+                    "Cannot approve reservation beacause of conflicts: " + conflicts)));
+
+        int[] updated = approveAccepted(resolution.accepted(), entities);
+        collectUpdates(resolution.accepted(), updated, ReservationStatus.APPROVED, results);
+    }
+
+    private void approveRoomByRoom(
+        List<ReservationInterval> candidates,
+        Map<Long, ReservationEntity> entities,
+        Map<Long, BulkOperationResult> results
+    ) {
+        Map<Long, List<ReservationInterval>> byRoom = candidates.stream()
+                .collect(Collectors.groupingBy(ReservationInterval::roomId, TreeMap::new, Collectors.toList()));
+
+        byRoom.forEach((roomId, roomCandidates) -> {
+            try {
+                transactionTemplate.executeWithoutResult(
+                    status -> approveLocked(roomCandidates, Set.of(roomId), entities, results)
+                );
+            } catch (DataIntegrityViolationException e) {
+                roomCandidates.forEach(it -> results.put(it.id(),
+                        BulkOperationResult.failure(it.id(), ReservationStatus.PENDING,
+                            "Cannot approve reservation because of a concurrent approval. Please retry")));
+            }
+        });
+    }
+
+    private PendingResolution resolvePendingLocked(Long roomId, int limit) {
+        List<ReservationEntity> pending = repository.findByRoomIdAndStatusOrderById(
+                roomId, ReservationStatus.PENDING, Limit.of(limit)
+        );
+        if (pending.isEmpty()) {
+            return new PendingResolution(roomId, 0, 0);
+        }
+
+        Map<Long, ReservationEntity> entities = pending.stream()
+                .collect(Collectors.toMap(ReservationEntity::getId, it -> it));
+        List<ReservationInterval> candidates = pending.stream()
+                .map(ReservationBulkService::toInterval)
+                .toList();
+        List<ReservationInterval> approved = repository.findOverlappingIntervals(
+                Set.of(roomId), minStartDate(candidates), maxEndDate(candidates),
+                List.of(ReservationStatus.APPROVED)
+        );
+
+        var resolution = RoomConflictResolver.resolve(candidates, approved);
+        int[] accepted = approveAccepted(resolution.accepted(), entities);
+
+        List<ReservationInterval> losers = candidates.stream()
+                .filter(it -> resolution.rejected().containsKey(it.id()))
+                .toList();
+        int[] rejected = jdbcRepository.updateStatuses(
+                losers, ReservationStatus.PENDING, ReservationStatus.REJECTED
+        );
+        cache.evictAllAfterCommit(updatedIds(losers, rejected));
+        publishChanges(losers, rejected, entities,
+            ReservationChangeType.REJECTED, ReservationStatus.REJECTED);
+
+        return new PendingResolution(roomId, countUpdated(accepted), countUpdated(rejected));
+    }
+
+    /**
+     * Moves the accepted intervals to APPROVED in one batch; returns the per-row update counts.
+     */
+    private int[] approveAccepted(
+        List<ReservationInterval> accepted,
+        Map<Long, ReservationEntity> entities
+    ) {
+        int[] updated = jdbcRepository.updateStatuses(
+                accepted, ReservationStatus.PENDING, ReservationStatus.APPROVED
+        );
+        cache.evictAllAfterCommit(updatedIds(accepted, updated));
+        publishChanges(accepted, updated, entities,
+            ReservationChangeType.APPROVED, ReservationStatus.APPROVED);
+
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] > 0) {
+                ReservationInterval interval = accepted.get(i);
+                approvedIndex.putAfterCommit(
+                    interval.id(), interval.roomId(), interval.startDate(), interval.endDate()
+                );
+            }
+        }
+        return updated;
+    }
+
+    /**
+     * Must run inside the batch transaction, the outbox rows are written by the listeners.
+     */
+    private void publishChanges(
+        List<ReservationInterval> intervals,
+        int[] updated,
+        Map<Long, ReservationEntity> entities,
+        ReservationChangeType type,
+        ReservationStatus status
+    ) {
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] > 0) {
+                ReservationEntity entity = entities.get(intervals.get(i).id());
+                eventPublisher.publishEvent(ReservationChangedEvent.statusChanged(
+                    type,
+                    toDomain(entity, entity.getStatus(), entity.getVersion()),
+                    toDomain(entity, status, entity.getVersion() + 1)
+                ));
+            }
+        }
+    }
+
+    private static Reservation toDomain(ReservationEntity entity, ReservationStatus status, Long version) {
+        return new Reservation(
+            entity.getId(),
+            entity.getUserId(),
+            entity.getRoomId(),
+            entity.getStartDate(),
+            entity.getEndDate(),
+            status,
+            version
+        );
+    }
+
+    private Map<Long, ReservationEntity> loadAll(List<Long> ids) {
+        return repository.findAllById(ids).stream()
+                .collect(Collectors.toMap(ReservationEntity::getId, it -> it));
+    }
+
+    private static void collectUpdates(
+        List<ReservationInterval> intervals,
+        int[] updated,
+        ReservationStatus target,
+        Map<Long, BulkOperationResult> results
+    ) {
+        for (int i = 0; i < intervals.size(); i++) {
+            Long id = intervals.get(i).id();
+            results.put(id, updated[i] > 0
+                    ? BulkOperationResult.success(id, target)
+                    : BulkOperationResult.failure(id, null,
+                        "Reservation was modified by another request. Please retry"));
+        }
+    }
+
+    private static List<Long> updatedIds(List<ReservationInterval> intervals, int[] updated) {
+        List<Long> ids = new ArrayList<>(updated.length);
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] > 0) {
+                ids.add(intervals.get(i).id());
+            }
+        }
+        return ids;
+    }
+
+    private static int countUpdated(int[] updated) {
+        int count = 0;
+        for (int rows : updated) {
+            if (rows > 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static LocalDate minStartDate(List<ReservationInterval> intervals) {
+        return intervals.stream()
+                .map(ReservationInterval::startDate)
+                .min(Comparator.naturalOrder())
+                .orElseThrow();
+    }
+
+    private static LocalDate maxEndDate(List<ReservationInterval> intervals) {
+        return intervals.stream()
+                .map(ReservationInterval::endDate)
+                .max(Comparator.naturalOrder())
+                .orElseThrow();
+    }
+
+    private static ReservationInterval toInterval(ReservationEntity entity) {
+        return new ReservationInterval(
+                entity.getId(),
+                entity.getRoomId(),
+                entity.getStartDate(),
+                entity.getEndDate(),
+                entity.getStatus(),
+                entity.getVersion()
+        );
+    }
+
+    private static BulkOperationResult notFound(Long id) {
+        return BulkOperationResult.failure(id, null, "No Reservation with id: " + id);
+    }
+
+    private static long countSucceeded(Map<Long, BulkOperationResult> results) {
+        return results.values().stream().filter(BulkOperationResult::success).count();
+    }
+}
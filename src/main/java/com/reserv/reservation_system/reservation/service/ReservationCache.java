@@ -0,0 +1,104 @@
+package com.reserv.reservation_system.reservation.service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.reserv.reservation_system.common.datasource.DataSourceRouting;
+import com.reserv.reservation_system.reservation.domain.Reservation;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Read-through cache of reservations by id. Writers evict the id after commit;
+ * Caffeine waits for an in-flight load of the same key before evicting it,
+ * so a load that read the old row can't outlive the eviction.
+ * For {@code readYourWritesWindow} after an eviction the id is loaded from the primary,
+ * a lagging read replica would otherwise put the old row straight back.
+ */
+@Component
+public class ReservationCache {
+
+    static final String CACHE_NAME = "reservations";
+
+    private final Cache<Long, Reservation> cache;
+
+    private final Cache<Long, Boolean> recentlyChanged;
+
+    public ReservationCache(
+        @Value("${reservation.cache.enabled:true}") boolean enabled,
+        @Value("${reservation.cache.max-size:10000}") long maxSize,
+        @Value("${reservation.cache.ttl:30s}") Duration ttl,
+        @Value("${reservation.datasource.read-your-writes-window:2s}") Duration readYourWritesWindow,
+        MeterRegistry registry
+    ) {
+        if (enabled) {
+            this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+            CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+        } else {
+            this.cache = null;
+        }
+        this.recentlyChanged = enabled && !readYourWritesWindow.isZero()
+            ? Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(readYourWritesWindow).build()
+            : null;
+    }
+
+    public Reservation get(Long id, Function<Long, Reservation> loader) {
+        if (cache == null) {
+            return loader.apply(id);
+        }
+        if (recentlyChanged != null && recentlyChanged.getIfPresent(id) != null) {
+            return cache.get(id, key -> DataSourceRouting.onPrimary(() -> loader.apply(key)));
+        }
+        return cache.get(id, loader);
+    }
+
+    public void evictAfterCommit(Long id) {
+        if (cache != null) {
+            afterCommit(() -> {
+                cache.invalidate(id);
+                markChanged(id);
+            });
+        }
+    }
+
+    public void evictAllAfterCommit(Collection<Long> ids) {
+        if (cache != null && !ids.isEmpty()) {
+            afterCommit(() -> {
+                cache.invalidateAll(ids);
+                ids.forEach(this::markChanged);
+            });
+        }
+    }
+
+    private void markChanged(Long id) {
+        if (recentlyChanged != null) {
+            recentlyChanged.put(id, Boolean.TRUE);
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
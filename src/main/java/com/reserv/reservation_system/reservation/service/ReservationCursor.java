@@ -0,0 +1,49 @@
+package com.reserv.reservation_system.reservation.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.reserv.reservation_system.reservation.persistence.ReservationSortKey;
+
+/**
+ * Position of the last returned row: sort key, its value and the id used as tie-breaker.
+ * Clients only see it as an opaque url-safe string.
+ */
+public record ReservationCursor(
+    ReservationSortKey sortKey,
+    LocalDate startDate,
+    Long id
+) {
+
+    public static ReservationCursor after(ReservationSortKey sortKey, LocalDate startDate, Long id) {
+        return new ReservationCursor(sortKey, sortKey == ReservationSortKey.START_DATE ? startDate : null, id);
+    }
+
+    public String encode() {
+        String raw = sortKey == ReservationSortKey.START_DATE
+            ? sortKey + ":" + startDate + ":" + id
+            : sortKey + ":" + id;
+        return Base64.getUrlEncoder()
+            .withoutPadding()
+            .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ReservationCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":");
+            var sortKey = ReservationSortKey.valueOf(parts[0]);
+            if (sortKey == ReservationSortKey.START_DATE && parts.length == 3) {
+                return new ReservationCursor(sortKey, LocalDate.parse(parts[1]), Long.valueOf(parts[2]));
+            }
+            if (sortKey == ReservationSortKey.ID && parts.length == 2) {
+                return new ReservationCursor(sortKey, null, Long.valueOf(parts[1]));
+            }
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            // reported below as an invalid cursor
+        }
+        throw new IllegalArgumentException("Invalid cursor: " + cursor);
+    }
+}
@@ -17,7 +17,8 @@ public class ReservationMapper {
             reservation.getRoomId(),
             reservation.getStartDate(),
             reservation.getEndDate(),
-            reservation.getStatus()        
+            reservation.getStatus(),
+            reservation.getVersion()
         );
     }
 
@@ -39,6 +40,7 @@ public class ReservationMapper {
             reservationRequest.roomId(),
             reservationRequest.startDate(),
             reservationRequest.endDate(),
+            null,
             null
         );
     }
@@ -1,10 +1,16 @@
 package com.reserv.reservation_system.reservation.service;
 
+import com.reserv.reservation_system.reservation.domain.ReservationStatus;
+import com.reserv.reservation_system.reservation.persistence.ReservationSortKey;
+
 public record ReservationSearchFilter(
         Long roomId,
         Long userId,
+        ReservationStatus status,
         Integer pageSize,
-        Integer pageNumber
+        Integer pageNumber,
+        ReservationSortKey sort,
+        String cursor
 ) {
     
 }
@@ -1,68 +1,198 @@
 package com.reserv.reservation_system.reservation.service;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
-
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.reserv.reservation_system.common.datasource.DataSourceRouting;
+import com.reserv.reservation_system.common.exception.ReservationConflictException;
+import com.reserv.reservation_system.common.exception.StaleReservationException;
+import com.reserv.reservation_system.common.metrics.ReservationMetrics;
+import com.reserv.reservation_system.reservation.availability.ApprovedReservationIndex;
 import com.reserv.reservation_system.reservation.domain.Reservation;
 import com.reserv.reservation_system.reservation.domain.ReservationStatus;
+import com.reserv.reservation_system.reservation.events.ReservationChangeType;
+import com.reserv.reservation_system.reservation.events.ReservationChangedEvent;
 import com.reserv.reservation_system.reservation.persistence.ReservationEntity;
+import com.reserv.reservation_system.reservation.persistence.ReservationJdbcRepository;
 import com.reserv.reservation_system.reservation.persistence.ReservationRepository;
+import com.reserv.reservation_system.reservation.persistence.ReservationSearchCriteria;
+import com.reserv.reservation_system.reservation.persistence.ReservationSortKey;
 
 import jakarta.persistence.EntityNotFoundException;
-import jakarta.transaction.Transactional;
 
 @Service
 public class ReservationService {
 
     private static final Logger log = LoggerFactory.getLogger(ReservationService.class);
 
+    /** Offset paging still makes the database skip every earlier row. */
+    static final int MAX_OFFSET = 100_000;
+
     private final ReservationRepository repository;
 
     private final ReservationMapper mapper;
 
+    private final ApprovedReservationIndex approvedIndex;
+
+    private final RoomApprovalLocks roomLocks;
+
+    private final ReservationMetrics metrics;
+
+    private final ReservationCache cache;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final ReservationCreateBatcher createBatcher;
+
+    private final ReservationJdbcRepository jdbcRepository;
+
     public ReservationService(
         ReservationRepository repository, 
-        ReservationMapper mapper
+        ReservationMapper mapper,
+        ApprovedReservationIndex approvedIndex,
+        RoomApprovalLocks roomLocks,
+        ReservationMetrics metrics,
+        ReservationCache cache,
+        ApplicationEventPublisher eventPublisher,
+        PlatformTransactionManager transactionManager,
+        ReservationCreateBatcher createBatcher,
+        ReservationJdbcRepository jdbcRepository
     ) {
         this.repository = repository;
         this.mapper = mapper;
+        this.approvedIndex = approvedIndex;
+        this.roomLocks = roomLocks;
+        this.metrics = metrics;
+        this.cache = cache;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.createBatcher = createBatcher;
+        this.jdbcRepository = jdbcRepository;
     }
 
+    /**
+     * Reads below never load entities: rows are projected into {@link Reservation}
+     * in a read-only transaction, so there is no persistence context snapshot to dirty-check.
+     */
     public Reservation getReservationById(Long id) {
+        return metrics.record("get-by-id", () -> cache.get(id, this::findReservationById));
+    }
 
-        ReservationEntity reservationEntity =  repository.findById(id)
+    private Reservation findReservationById(Long id) {
+        return readOnlyTransaction.execute(status -> repository.findReservationById(id)
+                    .or(() -> repository.findArchivedReservationById(id)))
                 .orElseThrow(() -> new EntityNotFoundException(
                     "No Reservation with id: " + id
                 ));
-        return mapper.toDomain(reservationEntity);
     }
 
     public List<Reservation> searchAllByFilter(
         ReservationSearchFilter filter
     ) {
+        return metrics.record("search", () -> readOnlyTransaction.execute(
+            status -> searchPage(filter)
+        ));
+    }
+
+    private List<Reservation> searchPage(ReservationSearchFilter filter) {
 
         int pageSize = filter.pageSize() != null ? filter.pageSize() : 10;
         int pageNumber = filter.pageNumber() != null ? filter.pageNumber() : 0;
         var pageable = Pageable
                 .ofSize(pageSize)
                 .withPage(pageNumber);
+        if (pageable.getOffset() > MAX_OFFSET) {
+            throw new IllegalArgumentException(
+                "Pages deeper than " + MAX_OFFSET + " rows are only available with cursor paging");
+        }
 
-        List<ReservationEntity> allEntities = repository.searchAllByFilter(
+        return repository.search(new ReservationSearchCriteria(
                 filter.roomId(),
                 filter.userId(),
-                pageable
-        );
+                filter.status(),
+                sortKeyOf(filter),
+                null,
+                null,
+                (int) pageable.getOffset(),
+                pageable.getPageSize()
+        ));
+    }
 
-        return allEntities.stream()
-                .map(it -> mapper.toDomain(it)
-                ).toList();
+    public ReservationSlice searchSliceByFilter(
+        ReservationSearchFilter filter
+    ) {
+        return metrics.record("search", () -> readOnlyTransaction.execute(
+            status -> searchSlice(filter)
+        ));
+    }
+
+    private ReservationSlice searchSlice(ReservationSearchFilter filter) {
+
+        int pageSize = filter.pageSize() != null ? filter.pageSize() : 10;
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Page size must not be less than one");
+        }
+
+        ReservationSortKey sortKey = sortKeyOf(filter);
+        ReservationCursor after = null;
+        if (filter.cursor() != null && !filter.cursor().isBlank()) {
+            after = ReservationCursor.decode(filter.cursor());
+            if (after.sortKey() != sortKey) {
+                throw new IllegalArgumentException("Cursor was issued for sort=" + after.sortKey());
+            }
+        }
+
+        List<Reservation> items = repository.search(new ReservationSearchCriteria(
+                filter.roomId(),
+                filter.userId(),
+                filter.status(),
+                sortKey,
+                after != null ? after.startDate() : null,
+                after != null ? after.id() : null,
+                0,
+                pageSize + 1
+        ));
+
+        String nextCursor = null;
+        if (items.size() > pageSize) {
+            items = items.subList(0, pageSize);
+            Reservation last = items.get(pageSize - 1);
+            nextCursor = ReservationCursor.after(sortKey, last.startDate(), last.id()).encode();
+        }
+
+        return new ReservationSlice(items, nextCursor);
+    }
+
+    private static ReservationSortKey sortKeyOf(ReservationSearchFilter filter) {
+        return filter.sort() != null ? filter.sort() : ReservationSortKey.ID;
     }
 
     public Reservation createReservation(Reservation reservationToCreate) {
+        return metrics.record("create", () -> {
+            var entityToSave = toNewEntity(reservationToCreate);
+            if (createBatcher.isEnabled()) {
+                return createBatcher.create(mapper.toDomain(entityToSave));
+            }
+            return transactionTemplate.execute(status -> create(entityToSave));
+        });
+    }
+
+    private ReservationEntity toNewEntity(Reservation reservationToCreate) {
 
         if (reservationToCreate.status() != null) {
             throw new IllegalArgumentException("status should be empty");
@@ -70,12 +200,36 @@ public class ReservationService {
 
         var entityToSave = mapper.toEntity(reservationToCreate);
         entityToSave.setStatus(ReservationStatus.PENDING);
+        return entityToSave;
+    }
+
+    private Reservation create(ReservationEntity entityToSave) {
 
         var savedEntity = repository.save(entityToSave);
-        return mapper.toDomain(savedEntity);
+
+        var created = mapper.toDomain(savedEntity);
+        eventPublisher.publishEvent(ReservationChangedEvent.of(ReservationChangeType.CREATED, created));
+        return created;
     }
 
     public Reservation updateReservation(Long id, Reservation reservationToUpdate) {
+        return updateReservation(id, reservationToUpdate, null);
+    }
+
+    /**
+     * With {@code expectedVersion} the update is a single conditional UPDATE that fails
+     * with {@link StaleReservationException} if the row has moved on. Without it the row
+     * is loaded and saved by Hibernate, which still checks the version it has read.
+     */
+    public Reservation updateReservation(Long id, Reservation reservationToUpdate, Long expectedVersion) {
+        return metrics.record("update", () -> transactionTemplate.execute(
+            status -> expectedVersion != null
+                ? updateIfVersion(id, reservationToUpdate, expectedVersion)
+                : update(id, reservationToUpdate)
+        ));
+    }
+
+    private Reservation update(Long id, Reservation reservationToUpdate) {
 
         var reservationEntity = repository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException(
@@ -87,17 +241,64 @@ public class ReservationService {
             + reservationEntity.getStatus());
         }
 
-        var reservationToSave = mapper.toEntity(reservationToUpdate);
-        reservationToSave.setId(reservationEntity.getId());
-        reservationToSave.setStatus(ReservationStatus.PENDING);
+        var previous = mapper.toDomain(reservationEntity);
+        reservationEntity.setUserId(reservationToUpdate.userId());
+        reservationEntity.setRoomId(reservationToUpdate.roomId());
+        reservationEntity.setStartDate(reservationToUpdate.startDate());
+        reservationEntity.setEndDate(reservationToUpdate.endDate());
+        repository.flush();
 
-        var updatedEntity = repository.save(reservationToSave);
+        return updated(previous, mapper.toDomain(reservationEntity));
+    }
+
+    private Reservation updateIfVersion(Long id, Reservation reservationToUpdate, Long expectedVersion) {
 
-        return mapper.toDomain(updatedEntity);
+        Optional<Reservation> previous = jdbcRepository.updateIfVersion(
+            id,
+            expectedVersion,
+            ReservationStatus.PENDING,
+            reservationToUpdate.userId(),
+            reservationToUpdate.roomId(),
+            reservationToUpdate.startDate(),
+            reservationToUpdate.endDate()
+        );
+
+        if (previous.isEmpty()) {
+            var reservationEntity = repository.findById(id)
+                    .orElseThrow(() -> new EntityNotFoundException(
+                        "No Reservation with id: " + id
+                    ));
+            if (reservationEntity.getStatus() != ReservationStatus.PENDING) {
+                throw new IllegalStateException("Can't modify reservation with status=" 
+                + reservationEntity.getStatus());
+            }
+            throw new StaleReservationException(id, expectedVersion, reservationEntity.getVersion());
+        }
+
+        return updated(previous.get(), new Reservation(
+            id,
+            reservationToUpdate.userId(),
+            reservationToUpdate.roomId(),
+            reservationToUpdate.startDate(),
+            reservationToUpdate.endDate(),
+            ReservationStatus.PENDING,
+            expectedVersion + 1
+        ));
+    }
+
+    private Reservation updated(Reservation previous, Reservation updated) {
+        cache.evictAfterCommit(updated.id());
+        eventPublisher.publishEvent(ReservationChangedEvent.updated(previous, updated));
+        return updated;
     }
 
-    @Transactional
     public void cancelReservation(Long id) {
+        metrics.record("cancel", () -> transactionTemplate.executeWithoutResult(
+            status -> cancel(id)
+        ));
+    }
+
+    private void cancel(Long id) {
 
         var reservationEntity = repository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException(
@@ -111,46 +312,105 @@ public class ReservationService {
         if (reservationEntity.getStatus().equals(ReservationStatus.CANCELLED)) {
             throw new IllegalStateException("The reservation is already cancelled");
         }
+
+        if (reservationEntity.getStatus().equals(ReservationStatus.REJECTED)) {
+            throw new IllegalStateException("The reservation was rejected because of conflicts");
+        }
         
-        repository.setStatus(id, ReservationStatus.CANCELLED);
+        // Conditional on what was read, so a concurrent approval is not overwritten.
+        int updated = repository.setStatus(
+            id,
+            reservationEntity.getStatus(),
+            reservationEntity.getVersion(),
+            ReservationStatus.CANCELLED
+        );
+        if (updated == 0) {
+            throw new ObjectOptimisticLockingFailureException(ReservationEntity.class, id);
+        }
+        approvedIndex.removeAfterCommit(id, reservationEntity.getRoomId());
+        cache.evictAfterCommit(id);
+        eventPublisher.publishEvent(ReservationChangedEvent.statusChanged(
+            ReservationChangeType.CANCELLED,
+            mapper.toDomain(reservationEntity),
+            new Reservation(
+                reservationEntity.getId(),
+                reservationEntity.getUserId(),
+                reservationEntity.getRoomId(),
+                reservationEntity.getStartDate(),
+                reservationEntity.getEndDate(),
+                ReservationStatus.CANCELLED,
+                reservationEntity.getVersion() + 1
+            )
+        ));
         log.info("Succesfully cancelled reservation with id=" + id);
     }
 
-    @Transactional
     public Reservation approveReservation(Long id) {
+        // The room id picked before locking has to be current, never a replica's.
+        return metrics.record("approve", () -> DataSourceRouting.onPrimary(() -> approve(id)));
+    }
+
+    private Reservation approve(Long id) {
+
+        Long roomId = repository.findRoomIdById(id)
+                .orElseThrow(() -> new EntityNotFoundException(
+                    "No Reservation with id: " + id
+                ));
+
+        return roomLocks.withLock(roomId, () -> transactionTemplate.execute(
+            status -> approveLocked(id, roomId)
+        ));
+    }
+
+    private Reservation approveLocked(Long id, Long lockedRoomId) {
 
         var reservationEntity = repository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException(
                     "No Reservation with id: " + id
                 ));
 
+        if (!reservationEntity.getRoomId().equals(lockedRoomId)) {
+            throw new IllegalStateException(
+                "Reservation id=" + id + " was moved to another room. Please retry"
+            );
+        }
+
         if (reservationEntity.getStatus() != ReservationStatus.PENDING) {
             throw new IllegalStateException("Can't approve reservation with status=" 
             + reservationEntity.getStatus());
         }
 
-        List<ReservationEntity> conflicts = repository.findAndLockConflictingReservations(
+        List<Long> conflicts = repository.findConflictReservationIds(
             reservationEntity.getRoomId(),
             reservationEntity.getStartDate(),
             reservationEntity.getEndDate(),
             ReservationStatus.APPROVED
         );
+        metrics.recordConflicts(conflicts.size());
 
         if (!conflicts.isEmpty()) {
             log.warn(
                 "Cannot approve reservation id={} due to conflicts: {}",
                 id,
-                conflicts.stream().map(ReservationEntity::getId).toList()
-            );
-            throw new IllegalStateException(
-                "Cannot approve reservation beacause of conflicts: {}"
-                + conflicts.stream().map(ReservationEntity::getId).toList()
+                conflicts
             );
+            throw new ReservationConflictException(conflicts);
         }
 
+        var previous = mapper.toDomain(reservationEntity);
         reservationEntity.setStatus(ReservationStatus.APPROVED);
-        repository.save(reservationEntity);
+        repository.saveAndFlush(reservationEntity);
+        approvedIndex.putAfterCommit(
+            reservationEntity.getId(),
+            reservationEntity.getRoomId(),
+            reservationEntity.getStartDate(),
+            reservationEntity.getEndDate()
+        );
+        cache.evictAfterCommit(id);
 
-        return mapper.toDomain(reservationEntity);
+        var approved = mapper.toDomain(reservationEntity);
+        eventPublisher.publishEvent(
+            ReservationChangedEvent.statusChanged(ReservationChangeType.APPROVED, previous, approved));
+        return approved;
     }
-}
\ No newline at end of file
+}
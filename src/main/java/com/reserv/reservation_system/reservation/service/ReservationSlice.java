@@ -0,0 +1,12 @@
+package com.reserv.reservation_system.reservation.service;
+
+import java.util.List;
+
+import com.reserv.reservation_system.reservation.domain.Reservation;
+
+public record ReservationSlice(
+    List<Reservation> items,
+    String nextCursor
+) {
+    
+}
@@ -0,0 +1,81 @@
+package com.reserv.reservation_system.reservation.service;
+
+import java.util.Collection;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.reserv.reservation_system.common.metrics.ReservationMetrics;
+
+/**
+ * Striped in-process locks that serialize approvals of the same room.
+ * Approvals of rooms mapped to different stripes never wait for each other;
+ * across nodes overlapping approvals are rejected by the
+ * {@code no_overlapping_approved_reservations} exclusion constraint.
+ */
+@Component
+public class RoomApprovalLocks {
+
+    private final ReentrantLock[] stripes;
+
+    private final ReservationMetrics metrics;
+
+    public RoomApprovalLocks(
+        @Value("${reservation.approval.lock-stripes:1024}") int stripeCount,
+        ReservationMetrics metrics
+    ) {
+        if (stripeCount <= 0) {
+            throw new IllegalArgumentException("Lock stripe count should be positive");
+        }
+        int size = stripeCount == 1 ? 1 : Integer.highestOneBit((stripeCount - 1) << 1);
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.metrics = metrics;
+    }
+
+    public <T> T withLock(Long roomId, Supplier<T> action) {
+        ReentrantLock lock = stripes[stripeIndex(roomId)];
+        long waitStart = System.nanoTime();
+        lock.lock();
+        metrics.recordLockWait(System.nanoTime() - waitStart);
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public <T> T withLocks(Collection<Long> roomIds, Supplier<T> action) {
+        // Stripes are always taken in ascending order, so batches can't deadlock each other.
+        int[] indexes = roomIds.stream()
+            .mapToInt(this::stripeIndex)
+            .distinct()
+            .sorted()
+            .toArray();
+
+        int locked = 0;
+        long waitStart = System.nanoTime();
+        try {
+            for (int index : indexes) {
+                stripes[index].lock();
+                locked++;
+            }
+            metrics.recordLockWait(System.nanoTime() - waitStart);
+            return action.get();
+        } finally {
+            for (int i = locked - 1; i >= 0; i--) {
+                stripes[indexes[i]].unlock();
+            }
+        }
+    }
+
+    int stripeIndex(Long roomId) {
+        int h = roomId.hashCode();
+        h ^= (h >>> 16);
+        return h & (stripes.length - 1);
+    }
+}
@@ -0,0 +1,90 @@
+package com.reserv.reservation_system.reservation.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import com.reserv.reservation_system.reservation.persistence.ReservationInterval;
+
+/**
+ * Greedy first-come-first-served approval of candidate intervals:
+ * candidates are taken in the given order and accepted unless they overlap
+ * an already approved reservation or a previously accepted candidate of the same room.
+ */
+public final class RoomConflictResolver {
+
+    private RoomConflictResolver() {
+    }
+
+    public record Resolution(
+        List<ReservationInterval> accepted,
+        Map<Long, List<Long>> rejected
+    ) {
+        
+    }
+
+    public static Resolution resolve(
+        List<ReservationInterval> candidates,
+        Collection<ReservationInterval> approved
+    ) {
+        Map<Long, NavigableMap<LocalDate, List<ReservationInterval>>> blockedByRoom = new HashMap<>();
+        for (ReservationInterval interval : approved) {
+            block(blockedByRoom, interval);
+        }
+
+        List<ReservationInterval> accepted = new ArrayList<>();
+        Map<Long, List<Long>> rejected = new LinkedHashMap<>();
+        for (ReservationInterval candidate : candidates) {
+            List<Long> conflicts = conflicts(blockedByRoom.get(candidate.roomId()), candidate);
+            if (conflicts.isEmpty()) {
+                accepted.add(candidate);
+                block(blockedByRoom, candidate);
+            } else {
+                rejected.put(candidate.id(), conflicts);
+            }
+        }
+        return new Resolution(accepted, rejected);
+    }
+
+    private static void block(
+        Map<Long, NavigableMap<LocalDate, List<ReservationInterval>>> blockedByRoom,
+        ReservationInterval interval
+    ) {
+        blockedByRoom.computeIfAbsent(interval.roomId(), it -> new TreeMap<>())
+            .computeIfAbsent(interval.startDate(), it -> new ArrayList<>(1))
+            .add(interval);
+    }
+
+    private static List<Long> conflicts(
+        NavigableMap<LocalDate, List<ReservationInterval>> blocked,
+        ReservationInterval candidate
+    ) {
+        if (blocked == null) {
+            return List.of();
+        }
+
+        // Approved intervals can't overlap each other, so going left from the candidate's
+        // end date we can stop at the first one that ends before the candidate starts.
+        List<Long> result = new ArrayList<>(0);
+        for (List<ReservationInterval> sameStart
+                : blocked.headMap(candidate.endDate(), false).descendingMap().values()) {
+            boolean reachesCandidate = false;
+            for (ReservationInterval interval : sameStart) {
+                if (candidate.startDate().isBefore(interval.endDate())) {
+                    result.add(interval.id());
+                    reachesCandidate = true;
+                }
+            }
+            if (!reachesCandidate) {
+                break;
+            }
+        }
+        return result;
+    }
+}
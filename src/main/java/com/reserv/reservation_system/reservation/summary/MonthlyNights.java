@@ -0,0 +1,10 @@
+package com.reserv.reservation_system.reservation.summary;
+
+import java.time.YearMonth;
+
+public record MonthlyNights(
+    YearMonth month,
+    long nights
+) {
+
+}
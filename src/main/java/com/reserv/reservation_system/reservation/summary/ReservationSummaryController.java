@@ -0,0 +1,56 @@
+package com.reserv.reservation_system.reservation.summary;
+
+import java.time.YearMonth;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/reservation/summary")
+public class ReservationSummaryController {
+
+    private static final Logger log = LoggerFactory.getLogger(ReservationSummaryController.class);
+
+    private final ReservationSummaryService service;
+
+    public ReservationSummaryController(ReservationSummaryService service) {
+        this.service = service;
+    }
+
+    @GetMapping("/users/{userId}")
+    public ResponseEntity<UserSummaryResponse> userSummary(@PathVariable("userId") Long userId) {
+        log.info("Called method userSummary: userId={}", userId);
+
+        return ResponseEntity.ok(service.userSummary(userId));
+    }
+
+    @GetMapping("/rooms/{roomId}")
+    public ResponseEntity<RoomSummaryResponse> roomSummary(
+        @PathVariable("roomId") Long roomId,
+        @RequestParam(name = "from") @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+        @RequestParam(name = "to") @DateTimeFormat(pattern = "yyyy-MM") YearMonth to
+    ) {
+        log.info("Called method roomSummary: roomId={}, from={}, to={}", roomId, from, to);
+
+        return ResponseEntity.ok(service.roomSummary(roomId, from, to));
+    }
+
+    @PostMapping("/reconcile")
+    public ResponseEntity<Void> reconcile() {
+        log.info("Called method reconcile");
+
+        if (!service.rebuild()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        return ResponseEntity.noContent().build();
+    }
+}
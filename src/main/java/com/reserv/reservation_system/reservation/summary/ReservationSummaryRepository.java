@@ -0,0 +1,202 @@
+package com.reserv.reservation_system.reservation.summary;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.reserv.reservation_system.reservation.domain.ReservationStatus;
+import com.reserv.reservation_system.reservation.summary.SummaryDeltas.NightsKey;
+import com.reserv.reservation_system.reservation.summary.SummaryDeltas.StatusKey;
+
+@Repository
+public class ReservationSummaryRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ReservationSummaryRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Adds the deltas to the summary rows, one JDBC batch per table.
+     */
+    void apply(SummaryDeltas deltas) {
+        applyCounts("reservation_user_summary", "user_id", deltas.users());
+        applyCounts("reservation_room_summary", "room_id", deltas.rooms());
+
+        List<Map.Entry<NightsKey, Long>> nights = new ArrayList<>(deltas.nights().entrySet());
+        if (!nights.isEmpty()) {
+            jdbcTemplate.batchUpdate("""
+                    INSERT INTO reservation_room_nights (room_id, month, nights)
+                    VALUES (?, ?, ?)
+                    ON CONFLICT (room_id, month)
+                    DO UPDATE SET nights = reservation_room_nights.nights + EXCLUDED.nights
+                    """,
+                nights,
+                nights.size(),
+                (ps, entry) -> {
+                    ps.setLong(1, entry.getKey().roomId());
+                    ps.setDate(2, Date.valueOf(entry.getKey().month()));
+                    ps.setLong(3, entry.getValue());
+                });
+        }
+    }
+
+    public Map<ReservationStatus, Long> countsByUser(Long userId) {
+        return counts("reservation_user_summary", "user_id", userId);
+    }
+
+    public Map<ReservationStatus, Long> countsByRoom(Long roomId) {
+        return counts("reservation_room_summary", "room_id", roomId);
+    }
+
+    /**
+     * Approved nights of the room per month in {@code [fromMonth, toMonth]}, months without
+     * nights are left out.
+     */
+    public List<MonthlyNights> nightsByRoom(Long roomId, LocalDate fromMonth, LocalDate toMonth) {
+        return jdbcTemplate.query("""
+                SELECT month, nights
+                FROM reservation_room_nights
+                WHERE room_id = ?
+                AND month BETWEEN ? AND ?
+                AND nights <> 0
+                ORDER BY month
+                """,
+            (rs, rowNum) -> new MonthlyNights(
+                YearMonth.from(rs.getDate("month").toLocalDate()),
+                rs.getLong("nights")
+            ),
+            roomId, Date.valueOf(fromMonth), Date.valueOf(toMonth));
+    }
+
+    /**
+     * Takes the transaction-scoped advisory lock of the reconcile job, {@code false} if
+     * another transaction holds it.
+     */
+    boolean tryLockReconcile() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+            "SELECT pg_try_advisory_xact_lock(hashtext('reservation_summary_reconcile'))",
+            Boolean.class));
+    }
+
+    /**
+     * Differences between a recount of live and archived reservations and the summary
+     * rows. Must run in a REPEATABLE READ transaction: both sides are read in one snapshot,
+     * so the differences stay right when added to the rows later, whatever committed since.
+     * Takes no locks.
+     */
+    SummaryDeltas drift() {
+        var drift = new SummaryDeltas();
+        jdbcTemplate.query("""
+                SELECT coalesce(a.user_id, s.user_id) AS owner_id,
+                    coalesce(a.status, s.status) AS status,
+                    coalesce(a.reservations, 0) - coalesce(s.reservations, 0) AS delta
+                FROM (
+                    SELECT user_id, status, count(*) AS reservations
+                    FROM (
+                        SELECT user_id, status FROM reservations
+                        UNION ALL
+                        SELECT user_id, status FROM reservations_archive
+                    ) r
+                    GROUP BY user_id, status
+                ) a
+                FULL JOIN reservation_user_summary s
+                    ON s.user_id = a.user_id AND s.status = a.status
+                WHERE coalesce(a.reservations, 0) <> coalesce(s.reservations, 0)
+                """,
+            rs -> {
+                drift.adjustUser(rs.getLong("owner_id"),
+                    ReservationStatus.valueOf(rs.getString("status")), rs.getLong("delta"));
+            });
+        jdbcTemplate.query("""
+                SELECT coalesce(a.room_id, s.room_id) AS owner_id,
+                    coalesce(a.status, s.status) AS status,
+                    coalesce(a.reservations, 0) - coalesce(s.reservations, 0) AS delta
+                FROM (
+                    SELECT room_id, status, count(*) AS reservations
+                    FROM (
+                        SELECT room_id, status FROM reservations
+                        UNION ALL
+                        SELECT room_id, status FROM reservations_archive
+                    ) r
+                    GROUP BY room_id, status
+                ) a
+                FULL JOIN reservation_room_summary s
+                    ON s.room_id = a.room_id AND s.status = a.status
+                WHERE coalesce(a.reservations, 0) <> coalesce(s.reservations, 0)
+                """,
+            rs -> {
+                drift.adjustRoom(rs.getLong("owner_id"),
+                    ReservationStatus.valueOf(rs.getString("status")), rs.getLong("delta"));
+            });
+        jdbcTemplate.query("""
+                SELECT coalesce(a.room_id, s.room_id) AS room_id,
+                    coalesce(a.month, s.month) AS month,
+                    coalesce(a.nights, 0) - coalesce(s.nights, 0) AS delta
+                FROM (
+                    SELECT r.room_id, m.month::date AS month,
+                        sum(least(r.end_date, (m.month + interval '1 month')::date)
+                            - greatest(r.start_date, m.month::date)) AS nights
+                    FROM (
+                        SELECT room_id, start_date, end_date FROM reservations WHERE status = 'APPROVED'
+                        UNION ALL
+                        SELECT room_id, start_date, end_date FROM reservations_archive WHERE status = 'APPROVED'
+                    ) r
+                    CROSS JOIN LATERAL generate_series(
+                        date_trunc('month', r.start_date::timestamp),
+                        (r.end_date - 1)::timestamp,
+                        interval '1 month'
+                    ) AS m(month)
+                    GROUP BY r.room_id, m.month
+                ) a
+                FULL JOIN reservation_room_nights s
+                    ON s.room_id = a.room_id AND s.month = a.month
+                WHERE coalesce(a.nights, 0) <> coalesce(s.nights, 0)
+                """,
+            rs -> {
+                drift.adjustNights(rs.getLong("room_id"),
+                    rs.getDate("month").toLocalDate(), rs.getLong("delta"));
+            });
+        return drift;
+    }
+
+    private void applyCounts(String table, String ownerColumn, Map<StatusKey, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<StatusKey, Long>> entries = new ArrayList<>(deltas.entrySet());
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO " + table + " (" + ownerColumn + ", status, reservations) VALUES (?, ?, ?)"
+                + " ON CONFLICT (" + ownerColumn + ", status)"
+                + " DO UPDATE SET reservations = " + table + ".reservations + EXCLUDED.reservations",
+            entries,
+            entries.size(),
+            (ps, entry) -> {
+                ps.setLong(1, entry.getKey().ownerId());
+                ps.setString(2, entry.getKey().status().name());
+                ps.setLong(3, entry.getValue());
+            });
+    }
+
+    private Map<ReservationStatus, Long> counts(String table, String ownerColumn, Long ownerId) {
+        Map<ReservationStatus, Long> counts = new EnumMap<>(ReservationStatus.class);
+        for (ReservationStatus status : ReservationStatus.values()) {
+            counts.put(status, 0L);
+        }
+        jdbcTemplate.query(
+            "SELECT status, reservations FROM " + table + " WHERE " + ownerColumn + " = ?",
+            rs -> {
+                counts.put(ReservationStatus.valueOf(rs.getString("status")), rs.getLong("reservations"));
+            },
+            ownerId);
+        return counts;
+    }
+}
@@ -0,0 +1,133 @@
+package com.reserv.reservation_system.reservation.summary;
+
+import java.time.YearMonth;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.reserv.reservation_system.common.metrics.ReservationMetrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Reservation counts per status and approved nights per month, read from the summary
+ * tables instead of the reservations themselves. The reconcile job recounts live and
+ * archived rows and adds the difference to the tables, repairing drift from changes
+ * made outside the service without blocking the writers.
+ */
+@Service
+public class ReservationSummaryService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReservationSummaryService.class);
+
+    private static final int MAX_MONTHS = 120;
+
+    private final ReservationSummaryRepository repository;
+    private final ReservationMetrics metrics;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TransactionTemplate snapshotTransaction;
+    private final boolean enabled;
+    private final Timer reconcileTimer;
+
+    public ReservationSummaryService(
+        ReservationSummaryRepository repository,
+        ReservationMetrics metrics,
+        PlatformTransactionManager transactionManager,
+        MeterRegistry registry,
+        @Value("${reservation.summary.enabled:true}") boolean enabled
+    ) {
+        this.repository = repository;
+        this.metrics = metrics;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        // On the primary: a recount on a replica could be cancelled by replication conflicts.
+        // Its own connection, nested in the transaction that holds the reconcile lock.
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.snapshotTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.enabled = enabled;
+        this.reconcileTimer = Timer.builder("reservation.summary.reconcile").register(registry);
+    }
+
+    public UserSummaryResponse userSummary(Long userId) {
+        checkEnabled();
+        return metrics.record("summary-user", () -> new UserSummaryResponse(
+            userId,
+            readOnlyTransaction.execute(status -> repository.countsByUser(userId))
+        ));
+    }
+
+    public RoomSummaryResponse roomSummary(Long roomId, YearMonth from, YearMonth to) {
+        checkEnabled();
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("'to' must not be before 'from'");
+        }
+        if (from.plusMonths(MAX_MONTHS).isBefore(to)) {
+            throw new IllegalArgumentException("Summary is limited to " + MAX_MONTHS + " months");
+        }
+        return metrics.record("summary-room", () -> readOnlyTransaction.execute(
+            status -> new RoomSummaryResponse(
+                roomId,
+                repository.countsByRoom(roomId),
+                repository.nightsByRoom(roomId, from.atDay(1), to.atDay(1))
+            )
+        ));
+    }
+
+    @Scheduled(
+        initialDelayString = "${reservation.summary.reconcile-interval:6h}",
+        fixedDelayString = "${reservation.summary.reconcile-interval:6h}"
+    )
+    public void reconcile() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    /**
+     * The recount is a long read that locks no rows; only the differences it finds are
+     * written, like any other change. Differences are added, not assigned, so two runs
+     * must not overlap: the run holds a cluster-wide advisory lock until its differences
+     * are committed, and returns {@code false} without doing anything if another run holds it.
+     */
+    public boolean rebuild() {
+        checkEnabled();
+        long start = System.nanoTime();
+        SummaryDeltas drift = transactionTemplate.execute(status -> {
+            if (!repository.tryLockReconcile()) {
+                return null;
+            }
+            SummaryDeltas found = snapshotTransaction.execute(snapshot -> repository.drift());
+            if (!found.isEmpty()) {
+                repository.apply(found);
+            }
+            return found;
+        });
+        if (drift == null) {
+            log.info("Reservation summaries are being reconciled by another run, skipped");
+            return false;
+        }
+        long elapsed = System.nanoTime() - start;
+        reconcileTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        log.info("Reservation summaries reconciled in {} ms: users={}, rooms={}, nights={} rows corrected",
+            TimeUnit.NANOSECONDS.toMillis(elapsed),
+            drift.users().size(), drift.rooms().size(), drift.nights().size());
+        return true;
+    }
+
+    private void checkEnabled() {
+        if (!enabled) {
+            throw new IllegalStateException("Reservation summaries are disabled");
+        }
+    }
+}
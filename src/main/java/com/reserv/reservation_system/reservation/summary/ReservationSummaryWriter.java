@@ -0,0 +1,65 @@
+package com.reserv.reservation_system.reservation.summary;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.reserv.reservation_system.reservation.events.ReservationChangedEvent;
+
+/**
+ * Keeps the summary tables in step with {@link ReservationChangedEvent}s. Deltas of one
+ * transaction are summed up and written right before it commits, so a batch of changes
+ * costs one upsert per touched row and the summary commits or rolls back with the change.
+ */
+@Component
+public class ReservationSummaryWriter {
+
+    private final ReservationSummaryRepository repository;
+    private final boolean enabled;
+
+    public ReservationSummaryWriter(
+        ReservationSummaryRepository repository,
+        @Value("${reservation.summary.enabled:true}") boolean enabled
+    ) {
+        this.repository = repository;
+        this.enabled = enabled;
+    }
+
+    @EventListener
+    public void onReservationChanged(ReservationChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException(
+                "Reservation events must be published inside a transaction");
+        }
+        currentDeltas().add(event);
+    }
+
+    private SummaryDeltas currentDeltas() {
+        var deltas = (SummaryDeltas) TransactionSynchronizationManager.getResource(this);
+        if (deltas != null) {
+            return deltas;
+        }
+
+        var created = new SummaryDeltas();
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                if (!created.isEmpty()) {
+                    repository.apply(created);
+                }
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResource(ReservationSummaryWriter.this);
+            }
+        });
+        return created;
+    }
+}
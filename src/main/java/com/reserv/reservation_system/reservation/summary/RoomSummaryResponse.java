@@ -0,0 +1,14 @@
+package com.reserv.reservation_system.reservation.summary;
+
+import java.util.List;
+import java.util.Map;
+
+import com.reserv.reservation_system.reservation.domain.ReservationStatus;
+
+public record RoomSummaryResponse(
+    Long roomId,
+    Map<ReservationStatus, Long> reservations,
+    List<MonthlyNights> nights
+) {
+
+}
@@ -0,0 +1,134 @@
+package com.reserv.reservation_system.reservation.summary;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.reserv.reservation_system.reservation.domain.Reservation;
+import com.reserv.reservation_system.reservation.domain.ReservationStatus;
+import com.reserv.reservation_system.reservation.events.ReservationChangedEvent;
+
+/**
+ * Changes to the summary tables collected over one transaction. A status change is
+ * taken off the counter of the status in its {@code previous} state, so a change that
+ * did not start from PENDING does not skew the counters. Keys are kept sorted:
+ * transactions touching the same rows update them in the same order.
+ */
+final class SummaryDeltas {
+
+    record StatusKey(Long ownerId, ReservationStatus status) {
+    }
+
+    record NightsKey(Long roomId, LocalDate month) {
+    }
+
+    private static final Comparator<StatusKey> STATUS_ORDER =
+        Comparator.comparing(StatusKey::ownerId).thenComparing(StatusKey::status);
+
+    private static final Comparator<NightsKey> NIGHTS_ORDER =
+        Comparator.comparing(NightsKey::roomId).thenComparing(NightsKey::month);
+
+    private final Map<StatusKey, Long> users = new TreeMap<>(STATUS_ORDER);
+    private final Map<StatusKey, Long> rooms = new TreeMap<>(STATUS_ORDER);
+    private final Map<NightsKey, Long> nights = new TreeMap<>(NIGHTS_ORDER);
+
+    void add(ReservationChangedEvent event) {
+        Reservation reservation = event.reservation();
+        switch (event.type()) {
+            case CREATED -> count(reservation, ReservationStatus.PENDING, 1);
+            case UPDATED -> {
+                if (event.previous() != null) {
+                    count(event.previous(), ReservationStatus.PENDING, -1);
+                    count(reservation, ReservationStatus.PENDING, 1);
+                }
+            }
+            case APPROVED, CANCELLED, REJECTED -> {
+                Reservation from = event.previous() != null ? event.previous() : pending(reservation);
+                count(from, from.status(), -1);
+                count(reservation, reservation.status(), 1);
+                if (from.status() == ReservationStatus.APPROVED) {
+                    addNights(from, -1);
+                }
+                if (reservation.status() == ReservationStatus.APPROVED) {
+                    addNights(reservation, 1);
+                }
+            }
+        }
+    }
+
+    void adjustUser(Long userId, ReservationStatus status, long delta) {
+        users.merge(new StatusKey(userId, status), delta, Long::sum);
+    }
+
+    void adjustRoom(Long roomId, ReservationStatus status, long delta) {
+        rooms.merge(new StatusKey(roomId, status), delta, Long::sum);
+    }
+
+    void adjustNights(Long roomId, LocalDate month, long delta) {
+        nights.merge(new NightsKey(roomId, month), delta, Long::sum);
+    }
+
+    Map<StatusKey, Long> users() {
+        return nonZero(users);
+    }
+
+    Map<StatusKey, Long> rooms() {
+        return nonZero(rooms);
+    }
+
+    Map<NightsKey, Long> nights() {
+        return nonZero(nights);
+    }
+
+    boolean isEmpty() {
+        return users().isEmpty() && rooms().isEmpty() && nights().isEmpty();
+    }
+
+    /**
+     * Nights of the stay {@code [startDate, endDate)} by the first day of their month.
+     */
+    static Map<LocalDate, Long> nightsByMonth(LocalDate startDate, LocalDate endDate) {
+        Map<LocalDate, Long> result = new LinkedHashMap<>();
+        LocalDate from = startDate;
+        while (from.isBefore(endDate)) {
+            LocalDate month = from.withDayOfMonth(1);
+            LocalDate nextMonth = month.plusMonths(1);
+            LocalDate to = nextMonth.isBefore(endDate) ? nextMonth : endDate;
+            result.put(month, to.toEpochDay() - from.toEpochDay());
+            from = to;
+        }
+        return result;
+    }
+
+    private void addNights(Reservation reservation, long sign) {
+        nightsByMonth(reservation.startDate(), reservation.endDate()).forEach((month, count) ->
+            nights.merge(new NightsKey(reservation.roomId(), month), sign * count, Long::sum));
+    }
+
+    /**
+     * Stands in for the previous state of a status change published without one.
+     */
+    private static Reservation pending(Reservation reservation) {
+        return new Reservation(
+            reservation.id(),
+            reservation.userId(),
+            reservation.roomId(),
+            reservation.startDate(),
+            reservation.endDate(),
+            ReservationStatus.PENDING,
+            reservation.version()
+        );
+    }
+
+    private void count(Reservation reservation, ReservationStatus status, long delta) {
+        users.merge(new StatusKey(reservation.userId(), status), delta, Long::sum);
+        rooms.merge(new StatusKey(reservation.roomId(), status), delta, Long::sum);
+    }
+
+    private static <K> Map<K, Long> nonZero(Map<K, Long> deltas) {
+        deltas.values().removeIf(delta -> delta == 0);
+        return deltas;
+    }
+}
@@ -0,0 +1,12 @@
+package com.reserv.reservation_system.reservation.summary;
+
+import java.util.Map;
+
+import com.reserv.reservation_system.reservation.domain.ReservationStatus;
+
+public record UserSummaryResponse(
+    Long userId,
+    Map<ReservationStatus, Long> reservations
+) {
+
+}
@@ -0,0 +1,57 @@
+-- Reservation counts per user / room and status, and approved nights per room and month.
+-- Kept up to date by the writers in the transaction of every change; the reconcile job
+-- recounts the same way as the backfill below and adds the difference to the rows.
+CREATE TABLE IF NOT EXISTS reservation_user_summary (
+    user_id BIGINT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    reservations BIGINT NOT NULL,
+    PRIMARY KEY (user_id, status)
+);
+
+CREATE TABLE IF NOT EXISTS reservation_room_summary (
+    room_id BIGINT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    reservations BIGINT NOT NULL,
+    PRIMARY KEY (room_id, status)
+);
+
+CREATE TABLE IF NOT EXISTS reservation_room_nights (
+    room_id BIGINT NOT NULL,
+    month DATE NOT NULL,
+    nights BIGINT NOT NULL,
+    PRIMARY KEY (room_id, month)
+);
+
+INSERT INTO reservation_user_summary (user_id, status, reservations)
+SELECT user_id, status, count(*)
+FROM (
+    SELECT user_id, status FROM reservations
+    UNION ALL
+    SELECT user_id, status FROM reservations_archive
+) r
+GROUP BY user_id, status;
+
+INSERT INTO reservation_room_summary (room_id, status, reservations)
+SELECT room_id, status, count(*)
+FROM (
+    SELECT room_id, status FROM reservations
+    UNION ALL
+    SELECT room_id, status FROM reservations_archive
+) r
+GROUP BY room_id, status;
+
+INSERT INTO reservation_room_nights (room_id, month, nights)
+SELECT r.room_id, m.month::date,
+    sum(least(r.end_date, (m.month + interval '1 month')::date)
+        - greatest(r.start_date, m.month::date))
+FROM (
+    SELECT room_id, start_date, end_date FROM reservations WHERE status = 'APPROVED'
+    UNION ALL
+    SELECT room_id, start_date, end_date FROM reservations_archive WHERE status = 'APPROVED'
+) r
+CROSS JOIN LATERAL generate_series(
+    date_trunc('month', r.start_date::timestamp),
+    (r.end_date - 1)::timestamp,
+    interval '1 month'
+) AS m(month)
+GROUP BY r.room_id, m.month;
@@ -0,0 +1,3 @@
+-- Cancelled and rejected reservations now wait for the same retention as the rest
+-- and are found through idx_reservations_end_date.
+DROP INDEX IF EXISTS idx_reservations_closed;
@@ -0,0 +1,18 @@
+CREATE TABLE IF NOT EXISTS reservations (
+    id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    room_id BIGINT NOT NULL,
+    start_date DATE NOT NULL,
+    end_date DATE NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    version BIGINT
+);
+
+CREATE INDEX IF NOT EXISTS idx_reservations_room_dates
+ON reservations(room_id, start_date, end_date);
+
+CREATE INDEX IF NOT EXISTS idx_reservations_user
+ON reservations(user_id);
+
+CREATE INDEX IF NOT EXISTS idx_reservations_status
+ON reservations(status);
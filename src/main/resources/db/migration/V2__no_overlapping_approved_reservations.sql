@@ -0,0 +1,11 @@
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+-- Same half-open [start_date, end_date) rule as the conflict queries:
+-- a reservation ending on a day doesn't conflict with one starting on it.
+ALTER TABLE reservations
+ADD CONSTRAINT no_overlapping_approved_reservations
+EXCLUDE USING gist (
+    room_id WITH =,
+    daterange(start_date, end_date, '[)') WITH &&
+)
+WHERE (status = 'APPROVED');
@@ -0,0 +1,10 @@
+-- Conflict checks filter by room, status and date range.
+CREATE INDEX IF NOT EXISTS idx_reservations_room_status_dates
+ON reservations(room_id, status, start_date, end_date);
+
+-- Keyset search by user: WHERE user_id = ? AND id > ? ORDER BY id.
+CREATE INDEX IF NOT EXISTS idx_reservations_user_id
+ON reservations(user_id, id);
+
+DROP INDEX IF EXISTS idx_reservations_room_dates;
+DROP INDEX IF EXISTS idx_reservations_user;
@@ -0,0 +1,9 @@
+-- Lifecycle events written in the same transaction as the reservation change,
+-- drained and deleted by the outbox relay.
+CREATE TABLE IF NOT EXISTS reservation_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    event_type VARCHAR(32) NOT NULL,
+    reservation_id BIGINT NOT NULL,
+    payload TEXT NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
@@ -0,0 +1,4 @@
+-- Hibernate reserves 50 ids per nextval() (pooled optimizer), so inserts can be sent in JDBC batches.
+-- The sequence is moved past existing rows: the next allocated block starts at max(id) + 1.
+ALTER SEQUENCE reservations_id_seq INCREMENT BY 50;
+SELECT setval('reservations_id_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM reservations), 1));
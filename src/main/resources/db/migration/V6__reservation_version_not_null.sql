@@ -0,0 +1,4 @@
+UPDATE reservations SET version = 0 WHERE version IS NULL;
+
+ALTER TABLE reservations ALTER COLUMN version SET DEFAULT 0;
+ALTER TABLE reservations ALTER COLUMN version SET NOT NULL;
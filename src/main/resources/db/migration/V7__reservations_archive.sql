@@ -0,0 +1,23 @@
+CREATE TABLE IF NOT EXISTS reservations_archive (
+    id BIGINT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    room_id BIGINT NOT NULL,
+    start_date DATE NOT NULL,
+    end_date DATE NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    version BIGINT NOT NULL DEFAULT 0,
+    archived_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now()
+);
+
+CREATE INDEX IF NOT EXISTS idx_reservations_archive_user_id
+ON reservations_archive(user_id, id);
+
+CREATE INDEX IF NOT EXISTS idx_reservations_archive_room_id
+ON reservations_archive(room_id, id);
+
+-- Lets the archiver find finished and cancelled rows without scanning the hot table.
+CREATE INDEX IF NOT EXISTS idx_reservations_end_date
+ON reservations(end_date);
+
+CREATE INDEX IF NOT EXISTS idx_reservations_cancelled
+ON reservations(id) WHERE status = 'CANCELLED';
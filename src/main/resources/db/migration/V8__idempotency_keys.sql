@@ -0,0 +1,16 @@
+-- Responses of mutations sent with an Idempotency-Key, shared between instances
+-- when reservation.idempotency.shared=true. A row without status_code is a claim
+-- of a request that is still running.
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    idempotency_key VARCHAR(255) PRIMARY KEY,
+    fingerprint VARCHAR(64) NOT NULL,
+    status_code INT,
+    content_type VARCHAR(255),
+    etag VARCHAR(255),
+    location VARCHAR(1024),
+    body BYTEA,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_idempotency_keys_created_at
+    ON idempotency_keys (created_at);
@@ -0,0 +1,10 @@
+-- Rejected reservations are archived right away like cancelled ones,
+-- the partial index covers both so the archiver still doesn't scan the hot table.
+DROP INDEX IF EXISTS idx_reservations_cancelled;
+
+CREATE INDEX IF NOT EXISTS idx_reservations_closed
+ON reservations(id) WHERE status IN ('CANCELLED', 'REJECTED');
+
+-- Finds rooms with pending reservations for the auto-approval scheduler.
+CREATE INDEX IF NOT EXISTS idx_reservations_pending_room
+ON reservations(room_id, id) WHERE status = 'PENDING';
@@ -0,0 +1,87 @@
+package com.reserv.reservation_system.common.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.sql.SQLException;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ReplicaRoutingDataSourceTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final DataSource primary = mock(DataSource.class);
+    private final DataSource replica0 = mock(DataSource.class);
+    private final DataSource replica1 = mock(DataSource.class);
+    private final ReplicaRoutingDataSource routing =
+        new ReplicaRoutingDataSource(primary, List.of(replica0, replica1), registry);
+
+    @AfterEach
+    void resetReadOnly() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void shouldSpreadReadOnlyTransactionsOverReplicas() throws SQLException {
+        routing.getConnection();
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        routing.getConnection();
+        routing.getConnection();
+        routing.getConnection();
+
+        verify(primary).getConnection();
+        verify(replica0, times(2)).getConnection();
+        verify(replica1).getConnection();
+        assertThat(connections("primary")).isEqualTo(1);
+        assertThat(connections("replica-0")).isEqualTo(2);
+    }
+
+    @Test
+    void shouldReadFromPrimaryWhenPinned() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        DataSourceRouting.onPrimary(() -> {
+            try {
+                return routing.getConnection();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        verify(primary).getConnection();
+        verifyNoInteractions(replica0, replica1);
+        assertThat(DataSourceRouting.isPinnedToPrimary()).isFalse();
+    }
+
+    @Test
+    void shouldCloseReplicasButNotPrimary() {
+        var primaryPool = mock(HikariDataSource.class);
+        var replicaPool = mock(HikariDataSource.class);
+
+        new ReplicaRoutingDataSource(primaryPool, List.of(replicaPool), registry).destroy();
+
+        verify(replicaPool).close();
+        verify(primaryPool, never()).close();
+    }
+
+    private double connections(String target) {
+        return registry.get(ReplicaRoutingDataSource.CONNECTIONS_COUNTER)
+            .tag("target", target)
+            .counter()
+            .count();
+    }
+}
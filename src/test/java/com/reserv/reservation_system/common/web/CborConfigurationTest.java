@@ -0,0 +1,69 @@
+package com.reserv.reservation_system.common.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reserv.reservation_system.reservation.api.dto.ReservationRequest;
+import com.reserv.reservation_system.reservation.api.dto.ReservationResponse;
+import com.reserv.reservation_system.reservation.domain.ReservationStatus;
+
+class CborConfigurationTest {
+
+    private static final LocalDate START = LocalDate.of(2026, 3, 1);
+
+    private final ObjectMapper cbor = CborConfiguration.cborMapper(Jackson2ObjectMapperBuilder.json());
+    private final ObjectMapper json = Jackson2ObjectMapperBuilder.json().build();
+
+    @Test
+    void writesDatesAsEpochDaysAndReadsThemBack() throws Exception {
+        var response = new ReservationResponse(1L, 2L, 3L, START, START.plusDays(3), ReservationStatus.APPROVED);
+
+        byte[] bytes = cbor.writeValueAsBytes(response);
+
+        assertThat(cbor.readTree(bytes).get("startDate").longValue()).isEqualTo(START.toEpochDay());
+        assertThat(cbor.readValue(bytes, ReservationResponse.class)).isEqualTo(response);
+        assertThat(bytes.length).isLessThan(json.writeValueAsBytes(response).length);
+    }
+
+    @Test
+    void acceptsIsoDatesInRequests() throws Exception {
+        byte[] bytes = cbor.writeValueAsBytes(json.readTree("""
+            {"userId": 2, "roomId": 3, "startDate": "2026-03-01", "endDate": "2026-03-04"}
+            """));
+
+        var request = cbor.readValue(bytes, ReservationRequest.class);
+
+        assertThat(request.startDate()).isEqualTo(START);
+        assertThat(request.endDate()).isEqualTo(START.plusDays(3));
+    }
+
+    @Test
+    void keepsJsonAheadOfCbor() {
+        var cborConverter = new CborConfiguration().cborHttpMessageConverter(Jackson2ObjectMapperBuilder.json());
+
+        List<HttpMessageConverter<?>> converters = new HttpMessageConverters(cborConverter).getConverters();
+
+        int jsonIndex = indexOf(converters, MappingJackson2HttpMessageConverter.class);
+        assertThat(jsonIndex).isNotNegative();
+        assertThat(converters).containsOnlyOnce(cborConverter);
+        assertThat(converters.indexOf(cborConverter)).isGreaterThan(jsonIndex);
+    }
+
+    private static int indexOf(List<HttpMessageConverter<?>> converters, Class<?> type) {
+        for (int i = 0; i < converters.size(); i++) {
+            if (type.isInstance(converters.get(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -9,7 +9,7 @@ import com.reserv.reservation_system.reservation.persistence.ReservationEntity;
 public class ReservationFixtures {
     
     public static ReservationEntity defaultEntity(ReservationStatus status) {
-        return new ReservationEntity(
+        var entity = new ReservationEntity(
             1L,
             1L,
             1L,
@@ -17,6 +17,8 @@ public class ReservationFixtures {
             LocalDate.now().plusDays(5),
             status
         );
+        entity.setVersion(0L);
+        return entity;
     }
 
     public static Reservation defaultDomain(ReservationStatus status) {
@@ -26,7 +28,8 @@ public class ReservationFixtures {
             1L,
             LocalDate.now().plusDays(1),
             LocalDate.now().plusDays(5),
-            status
+            status,
+            0L
         );
     }
 }
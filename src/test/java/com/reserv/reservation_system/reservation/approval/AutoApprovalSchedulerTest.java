@@ -0,0 +1,73 @@
+package com.reserv.reservation_system.reservation.approval;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+import com.reserv.reservation_system.reservation.domain.ReservationStatus;
+import com.reserv.reservation_system.reservation.persistence.ReservationRepository;
+import com.reserv.reservation_system.reservation.service.PendingResolution;
+import com.reserv.reservation_system.reservation.service.ReservationBulkService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AutoApprovalSchedulerTest {
+
+    private final ReservationRepository repository = mock(ReservationRepository.class);
+    private final ReservationBulkService bulkService = mock(ReservationBulkService.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private final AutoApprovalScheduler scheduler = new AutoApprovalScheduler(
+        repository, bulkService, registry, true, 2, 3, 100
+    );
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        scheduler.destroy();
+    }
+
+    @Test
+    void shouldResolveRoomsInParallelAndSkipFailedOnes() {
+        when(repository.findRoomIdsWithStatusAfter(ReservationStatus.PENDING, 0L, Limit.of(3)))
+            .thenReturn(List.of(1L, 2L, 3L));
+        when(bulkService.resolvePending(1L, 100)).thenReturn(new PendingResolution(1L, 2, 5));
+        when(bulkService.resolvePending(2L, 100)).thenThrow(new IllegalStateException("conflict"));
+        when(bulkService.resolvePending(3L, 100)).thenReturn(new PendingResolution(3L, 1, 0));
+
+        List<PendingResolution> resolutions = scheduler.resolveNextRooms();
+
+        assertThat(resolutions).extracting(PendingResolution::approved).containsExactly(2, 0, 1);
+        assertThat(registry.get("reservation.auto-approval.reservations")
+            .tag("result", "approved").counter().count()).isEqualTo(3);
+        assertThat(registry.get("reservation.auto-approval.reservations")
+            .tag("result", "rejected").counter().count()).isEqualTo(5);
+        assertThat(registry.get("reservation.auto-approval.failed.rooms").counter().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    void shouldContinueAfterLastRoomAndWrapAround() {
+        when(bulkService.resolvePending(any(), eq(100))).thenReturn(new PendingResolution(0L, 0, 0));
+        when(repository.findRoomIdsWithStatusAfter(ReservationStatus.PENDING, 0L, Limit.of(3)))
+            .thenReturn(List.of(1L, 2L, 3L));
+        when(repository.findRoomIdsWithStatusAfter(ReservationStatus.PENDING, 3L, Limit.of(3)))
+            .thenReturn(List.of(4L));
+
+        scheduler.resolveNextRooms();
+        scheduler.resolveNextRooms();
+        scheduler.resolveNextRooms();
+
+        verify(bulkService).resolvePending(4L, 100);
+        verify(bulkService, times(2)).resolvePending(1L, 100);
+    }
+}
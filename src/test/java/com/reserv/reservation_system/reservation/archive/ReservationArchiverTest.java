@@ -0,0 +1,74 @@
+package com.reserv.reservation_system.reservation.archive;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.reserv.reservation_system.reservation.availability.ApprovedReservationIndex;
+import com.reserv.reservation_system.reservation.domain.ReservationStatus;
+import com.reserv.reservation_system.reservation.persistence.ReservationInterval;
+import com.reserv.reservation_system.reservation.persistence.ReservationJdbcRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ReservationArchiverTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 1);
+
+    private final ReservationJdbcRepository jdbcRepository = mock(ReservationJdbcRepository.class);
+    private final ApprovedReservationIndex approvedIndex = mock(ApprovedReservationIndex.class);
+
+    private final ReservationArchiver archiver = new ReservationArchiver(
+        jdbcRepository,
+        approvedIndex,
+        mock(PlatformTransactionManager.class),
+        new SimpleMeterRegistry(),
+        Clock.fixed(Instant.parse("2026-03-01T10:00:00Z"), ZoneOffset.UTC),
+        true,
+        Duration.ofDays(30),
+        2
+    );
+
+    @Test
+    void shouldMoveBatchesUntilOneIsShortAndDropApprovedFromIndex() {
+        LocalDate cutoff = TODAY.minusDays(30);
+        when(jdbcRepository.archiveBatch(cutoff, 2)).thenReturn(
+            List.of(interval(1L, ReservationStatus.APPROVED), interval(2L, ReservationStatus.CANCELLED)),
+            List.of(interval(3L, ReservationStatus.PENDING))
+        );
+
+        archiver.archive();
+
+        verify(jdbcRepository, times(2)).archiveBatch(cutoff, 2);
+        verify(approvedIndex).removeAfterCommit(1L, 7L);
+        verify(approvedIndex, never()).removeAfterCommit(2L, 7L);
+        verify(approvedIndex, never()).removeAfterCommit(3L, 7L);
+    }
+
+    @Test
+    void shouldStopOnFailure() {
+        when(jdbcRepository.archiveBatch(any(), any(Integer.class)))
+            .thenThrow(new IllegalStateException("db is down"));
+
+        archiver.archive();
+
+        verify(jdbcRepository, times(1)).archiveBatch(any(), any(Integer.class));
+    }
+
+    private static ReservationInterval interval(Long id, ReservationStatus status) {
+        return new ReservationInterval(id, 7L, TODAY.minusDays(60), TODAY.minusDays(55), status);
+    }
+}
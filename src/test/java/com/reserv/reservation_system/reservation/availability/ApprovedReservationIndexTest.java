@@ -0,0 +1,111 @@
+package com.reserv.reservation_system.reservation.availability;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.reserv.reservation_system.reservation.domain.ReservationStatus;
+import com.reserv.reservation_system.reservation.persistence.ReservationInterval;
+import com.reserv.reservation_system.reservation.persistence.ReservationRepository;
+
+@ExtendWith(MockitoExtension.class)
+class ApprovedReservationIndexTest {
+
+    private static final LocalDate BASE = LocalDate.of(2030, 1, 1);
+
+    @Mock
+    private ReservationRepository repository;
+
+    private ApprovedReservationIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ApprovedReservationIndex(repository, true);
+    }
+
+    @Test
+    void shouldFindConflictsUsingHalfOpenIntervals() {
+
+        when(repository.findAllIntervalsByStatus(ReservationStatus.APPROVED)).thenReturn(List.of(
+            interval(1L, 1L, 0, 5),
+            interval(2L, 1L, 10, 15),
+            interval(3L, 2L, 0, 30)
+        ));
+        index.rebuild();
+
+        assertThat(index.findConflicts(1L, day(5), day(10))).isEmpty();
+        assertThat(index.findConflicts(1L, day(4), day(11))).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(index.findConflicts(1L, day(14), day(20))).containsExactly(2L);
+        assertThat(index.findConflicts(3L, day(0), day(30))).isEmpty();
+    }
+
+    @Test
+    void shouldFindNestedIntervalsBehindShorterOnes() {
+
+        when(repository.findAllIntervalsByStatus(ReservationStatus.APPROVED)).thenReturn(List.of(
+            interval(1L, 1L, 0, 100),
+            interval(2L, 1L, 10, 12),
+            interval(3L, 1L, 20, 22)
+        ));
+        index.rebuild();
+
+        assertThat(index.findConflicts(1L, day(50), day(51))).containsExactly(1L);
+    }
+
+    @Test
+    void shouldApplyPutAndRemove() {
+
+        when(repository.findAllIntervalsByStatus(ReservationStatus.APPROVED)).thenReturn(List.of());
+        index.rebuild();
+
+        index.put(7L, 1L, day(3), day(6));
+        assertThat(index.findConflicts(1L, day(0), day(4))).containsExactly(7L);
+
+        index.put(7L, 1L, day(10), day(12));
+        assertThat(index.findConflicts(1L, day(0), day(4))).isEmpty();
+        assertThat(index.findConflicts(1L, day(11), day(20))).containsExactly(7L);
+
+        index.remove(7L, 1L);
+        assertThat(index.findConflicts(1L, day(0), day(30))).isEmpty();
+    }
+
+    @Test
+    void shouldReportMissingAndStaleReservations() {
+
+        when(repository.findAllIntervalsByStatus(ReservationStatus.APPROVED))
+            .thenReturn(List.of(interval(1L, 1L, 0, 5)))
+            .thenReturn(List.of(interval(2L, 1L, 10, 15)));
+        index.rebuild();
+
+        var result = index.verify();
+
+        assertThat(result.consistent()).isFalse();
+        assertThat(result.missingIds()).containsExactly(2L);
+        assertThat(result.staleIds()).containsExactly(1L);
+    }
+
+    @Test
+    void shouldNotBeReadyWhenDisabled() {
+
+        var disabled = new ApprovedReservationIndex(repository, false);
+        disabled.loadOnStartup();
+
+        assertThat(disabled.isReady()).isFalse();
+    }
+
+    private static ReservationInterval interval(Long id, Long roomId, int from, int to) {
+        return new ReservationInterval(id, roomId, day(from), day(to), ReservationStatus.APPROVED);
+    }
+
+    private static LocalDate day(int offset) {
+        return BASE.plusDays(offset);
+    }
+}
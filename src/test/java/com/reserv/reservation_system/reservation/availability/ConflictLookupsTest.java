@@ -0,0 +1,87 @@
+package com.reserv.reservation_system.reservation.availability;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.reserv.reservation_system.reservation.domain.ReservationStatus;
+import com.reserv.reservation_system.reservation.persistence.ReservationRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ConflictLookupsTest {
+
+    private static final LocalDate START = LocalDate.of(2026, 3, 1);
+    private static final LocalDate END = START.plusDays(3);
+
+    private final ReservationRepository repository = mock(ReservationRepository.class);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private final ConflictLookups lookups = new ConflictLookups(
+        repository, mock(PlatformTransactionManager.class), new SimpleMeterRegistry(), 1, 1
+    );
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        lookups.destroy();
+    }
+
+    @Test
+    void shouldShareOneQueryBetweenConcurrentIdenticalLookups() throws Exception {
+        when(repository.findConflictReservationIds(1L, START, END, ReservationStatus.APPROVED))
+            .thenAnswer(invocation -> {
+                release.await();
+                return List.of(42L);
+            });
+
+        List<CompletableFuture<List<Long>>> results = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            results.add(lookups.find(1L, START, END));
+        }
+        release.countDown();
+
+        for (CompletableFuture<List<Long>> result : results) {
+            assertThat(result.get()).containsExactly(42L);
+        }
+        verify(repository, times(1)).findConflictReservationIds(1L, START, END, ReservationStatus.APPROVED);
+
+        // Once the query is done the next lookup reads again.
+        lookups.find(1L, START, END).get();
+        verify(repository, times(2)).findConflictReservationIds(1L, START, END, ReservationStatus.APPROVED);
+    }
+
+    @Test
+    void shouldRejectLookupsBeyondTheQueue() {
+        when(repository.findConflictReservationIds(any(), any(), any(), eq(ReservationStatus.APPROVED)))
+            .thenAnswer(invocation -> {
+                release.await();
+                return List.of();
+            });
+
+        lookups.find(1L, START, END);
+        lookups.find(2L, START, END);
+        CompletableFuture<List<Long>> rejected = lookups.find(3L, START, END);
+
+        assertThatThrownBy(rejected::get)
+            .isInstanceOf(ExecutionException.class)
+            .hasCauseInstanceOf(RejectedExecutionException.class);
+    }
+}
@@ -0,0 +1,51 @@
+package com.reserv.reservation_system.reservation.availability;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.reserv.reservation_system.reservation.domain.ReservationStatus;
+import com.reserv.reservation_system.reservation.persistence.ReservationInterval;
+
+class FreeSlotFinderTest {
+
+    private static final LocalDate FROM = LocalDate.of(2030, 3, 1);
+
+    @Test
+    void shouldReturnEarliestGapsLongEnoughForRequestedNights() {
+
+        var approved = List.of(
+            approved(3L, 10, 12),
+            approved(1L, -3, 2),
+            approved(2L, 4, 8),
+            approved(4L, 11, 15)
+        );
+
+        var slots = FreeSlotFinder.find(approved, FROM, FROM.plusDays(31), 2, 10);
+
+        assertThat(slots).containsExactly(
+            new FreeSlot(FROM.plusDays(2), FROM.plusDays(4)),
+            new FreeSlot(FROM.plusDays(8), FROM.plusDays(10)),
+            new FreeSlot(FROM.plusDays(15), FROM.plusDays(31))
+        );
+    }
+
+    @Test
+    void shouldStopAfterLimitAndSkipShortGaps() {
+
+        var approved = List.of(approved(1L, 1, 5), approved(2L, 6, 9));
+
+        assertThat(FreeSlotFinder.find(approved, FROM, FROM.plusDays(20), 2, 1))
+            .containsExactly(new FreeSlot(FROM.plusDays(9), FROM.plusDays(20)));
+        assertThat(FreeSlotFinder.find(List.of(), FROM, FROM.plusDays(3), 4, 1)).isEmpty();
+    }
+
+    private static ReservationInterval approved(Long id, int startOffset, int endOffset) {
+        return new ReservationInterval(
+            id, 7L, FROM.plusDays(startOffset), FROM.plusDays(endOffset), ReservationStatus.APPROVED
+        );
+    }
+}
@@ -0,0 +1,45 @@
+package com.reserv.reservation_system.reservation.availability;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.reserv.reservation_system.reservation.domain.ReservationStatus;
+import com.reserv.reservation_system.reservation.persistence.ReservationInterval;
+
+class OccupancyCalendarTest {
+
+    private static final LocalDate FROM = LocalDate.of(2030, 1, 1);
+
+    @Test
+    void shouldMergeOverlappingDaysIntoRunsWithApprovedWinning() {
+
+        var intervals = List.of(
+            interval(1L, 5L, -2, 3, ReservationStatus.APPROVED),
+            interval(2L, 5L, 3, 5, ReservationStatus.APPROVED),
+            interval(3L, 5L, 4, 8, ReservationStatus.PENDING),
+            interval(4L, 5L, 12, 20, ReservationStatus.PENDING)
+        );
+
+        var calendar = OccupancyCalendar.build(List.of(5L, 6L), FROM, FROM.plusDays(14), intervals);
+
+        assertThat(calendar).extracting(RoomCalendar::roomId).containsExactly(5L, 6L);
+        assertThat(calendar.get(0).occupied()).containsExactly(
+            new OccupancyRun(0, 5, ReservationStatus.APPROVED),
+            new OccupancyRun(5, 3, ReservationStatus.PENDING),
+            new OccupancyRun(12, 2, ReservationStatus.PENDING)
+        );
+        assertThat(calendar.get(1).occupied()).isEmpty();
+    }
+
+    private static ReservationInterval interval(
+        Long id, Long roomId, int startOffset, int endOffset, ReservationStatus status
+    ) {
+        return new ReservationInterval(
+            id, roomId, FROM.plusDays(startOffset), FROM.plusDays(endOffset), status
+        );
+    }
+}
@@ -0,0 +1,124 @@
+package com.reserv.reservation_system.reservation.availability;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.reserv.reservation_system.common.metrics.ReservationMetrics;
+import com.reserv.reservation_system.reservation.domain.ReservationStatus;
+import com.reserv.reservation_system.reservation.persistence.ReservationInterval;
+import com.reserv.reservation_system.reservation.persistence.ReservationJdbcRepository;
+import com.reserv.reservation_system.reservation.persistence.ReservationRepository;
+import com.reserv.reservation_system.reservation.persistence.RoomDateRange;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ReservationAvailabilityServiceTest {
+
+    private static final LocalDate BASE = LocalDate.of(2030, 1, 1);
+
+    private final ReservationRepository repository = mock(ReservationRepository.class);
+    private final ReservationJdbcRepository jdbcRepository = mock(ReservationJdbcRepository.class);
+    private final ApprovedReservationIndex index = mock(ApprovedReservationIndex.class);
+
+    private final ReservationAvailabilityService service = new ReservationAvailabilityService(
+        repository,
+        jdbcRepository,
+        index,
+        mock(ConflictLookups.class),
+        new ReservationMetrics(new SimpleMeterRegistry()),
+        mock(PlatformTransactionManager.class)
+    );
+
+    @Test
+    void shouldAnswerFromIndexWithoutDatabase() {
+        when(index.isReady()).thenReturn(true);
+        when(index.findConflicts(1L, day(10), day(15))).thenReturn(List.of(7L));
+        when(index.findConflicts(2L, day(10), day(15))).thenReturn(List.of());
+
+        var result = service.checkAvailability(
+            new BatchAvailabilityRequest(null, List.of(1L, 2L, 1L), day(10), day(15)));
+
+        assertThat(result).containsExactly(
+            new RoomAvailability(1L, day(10), day(15), AvailabilityStatus.RESERVED, List.of(7L)),
+            new RoomAvailability(2L, day(10), day(15), AvailabilityStatus.AVAILABLE, List.of())
+        );
+        verify(jdbcRepository, never()).findOverlappingIntervals(any(), any());
+    }
+
+    @Test
+    void shouldFilterHalfOpenOverlapsPerItemOnDatabaseFallback() {
+        when(index.isReady()).thenReturn(false);
+        // Each room is read for the range covering its items, so that also returns stays
+        // that fall between two items or only touch one.
+        when(jdbcRepository.findOverlappingIntervals(
+                List.of(new RoomDateRange(1L, day(10), day(25)), new RoomDateRange(2L, day(10), day(14))),
+                ReservationStatus.APPROVED))
+            .thenReturn(List.of(
+                interval(1L, 1L, 5, 10),
+                interval(2L, 1L, 15, 20),
+                interval(3L, 1L, 24, 26),
+                interval(4L, 2L, 11, 12)
+            ));
+
+        var result = service.checkAvailability(new BatchAvailabilityRequest(List.of(
+            new CheckAvailabilityRequest(1L, day(10), day(15)),
+            new CheckAvailabilityRequest(1L, day(20), day(25)),
+            new CheckAvailabilityRequest(2L, day(10), day(12)),
+            new CheckAvailabilityRequest(2L, day(12), day(14))
+        ), null, null, null));
+
+        assertThat(result).extracting(RoomAvailability::conflictingReservationIds).containsExactly(
+            List.of(),
+            List.of(3L),
+            List.of(4L),
+            List.of()
+        );
+        assertThat(result).extracting(RoomAvailability::status).containsExactly(
+            AvailabilityStatus.AVAILABLE,
+            AvailabilityStatus.RESERVED,
+            AvailabilityStatus.RESERVED,
+            AvailabilityStatus.AVAILABLE
+        );
+    }
+
+    @Test
+    void shouldRequireEitherItemsOrRoomIds() {
+        var item = new CheckAvailabilityRequest(1L, day(0), day(1));
+
+        assertThatThrownBy(() -> service.checkAvailability(
+                new BatchAvailabilityRequest(List.of(item), List.of(1L), day(0), day(1))))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Either items or roomIds");
+        assertThatThrownBy(() -> service.checkAvailability(
+                new BatchAvailabilityRequest(List.of(), null, day(0), day(1))))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Either items or roomIds");
+    }
+
+    @Test
+    void shouldRejectEmptyStay() {
+        assertThatThrownBy(() -> service.checkAvailability(
+                new BatchAvailabilityRequest(null, List.of(1L), day(3), day(3))))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("End date must be after start date");
+    }
+
+    private static ReservationInterval interval(Long id, Long roomId, int startDay, int endDay) {
+        return new ReservationInterval(id, roomId, day(startDay), day(endDay), ReservationStatus.APPROVED);
+    }
+
+    private static LocalDate day(int offset) {
+        return BASE.plusDays(offset);
+    }
+}
@@ -0,0 +1,117 @@
+package com.reserv.reservation_system.reservation.events;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.reserv.reservation_system.reservation.domain.Reservation;
+import com.reserv.reservation_system.reservation.domain.ReservationStatus;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ReservationEventStreamTest {
+
+    private static final LocalDate START = LocalDate.now().plusDays(1);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final BlockingQueue<SseEmitter.SseEventBuilder> sent = new LinkedBlockingQueue<>();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch completed = new CountDownLatch(1);
+
+    private boolean slow;
+
+    private final ReservationEventStream eventStream =
+        new ReservationEventStream(this::emitter, 2, 2, meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        eventStream.destroy();
+    }
+
+    @Test
+    void shouldRequireAtLeastOneFilter() {
+
+        assertThatThrownBy(() -> eventStream.subscribe(null, null, null))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldRejectSubscribersOverLimit() {
+
+        eventStream.subscribe(1L, null, null);
+        eventStream.subscribe(null, 2L, 3L);
+
+        assertThatThrownBy(() -> eventStream.subscribe(null, null, 3L))
+            .isInstanceOf(RejectedExecutionException.class);
+        assertThat(eventStream.subscriberCount()).isEqualTo(2);
+        assertThat(meterRegistry.get("reservation.events.subscribers").gauge().value())
+            .isEqualTo(2);
+    }
+
+    @Test
+    void shouldNotifySubscribersOfPreviousRoom() throws Exception {
+
+        eventStream.subscribe(null, null, 1L);
+
+        eventStream.onReservationChanged(ReservationChangedEvent.updated(
+            reservation(1L), reservation(2L)));
+
+        assertThat(sent.poll(5, TimeUnit.SECONDS)).isNotNull();
+    }
+
+    @Test
+    void shouldDropSubscriberThatDoesNotKeepUp() throws Exception {
+
+        slow = true;
+        eventStream.subscribe(null, null, 1L);
+
+        for (int i = 0; i < 4; i++) {
+            eventStream.onReservationChanged(ReservationChangedEvent.of(
+                ReservationChangeType.APPROVED, reservation(1L)));
+        }
+
+        assertThat(completed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(eventStream.subscriberCount()).isZero();
+        assertThat(meterRegistry.get("reservation.events.dropped").counter().count()).isEqualTo(1);
+    }
+
+    private SseEmitter emitter() {
+        boolean blocking = slow;
+        return new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) {
+                if (blocking) {
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return;
+                }
+                sent.add(builder);
+            }
+
+            @Override
+            public void complete() {
+                completed.countDown();
+                super.complete();
+            }
+        };
+    }
+
+    private static Reservation reservation(Long roomId) {
+        return new Reservation(1L, 1L, roomId, START, START.plusDays(2), ReservationStatus.PENDING, 0L);
+    }
+}
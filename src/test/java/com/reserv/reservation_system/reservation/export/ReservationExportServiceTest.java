@@ -0,0 +1,95 @@
+package com.reserv.reservation_system.reservation.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.reserv.reservation_system.reservation.domain.Reservation;
+import com.reserv.reservation_system.reservation.domain.ReservationStatus;
+import com.reserv.reservation_system.reservation.persistence.ReservationJdbcRepository;
+
+class ReservationExportServiceTest {
+
+    private static final LocalDate MAR_1 = LocalDate.of(2026, 3, 1);
+    private static final LocalDate MAR_31 = LocalDate.of(2026, 3, 31);
+
+    private final ReservationJdbcRepository jdbcRepository = mock(ReservationJdbcRepository.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+    private final ReservationExportService service =
+        new ReservationExportService(jdbcRepository, transactionManager);
+
+    private final ReservationExportFilter filter =
+        new ReservationExportFilter(5L, 1L, ReservationStatus.APPROVED, MAR_1, MAR_31);
+
+    @BeforeEach
+    void streamTwoReservations() {
+        doAnswer(invocation -> {
+            Consumer<Reservation> consumer = invocation.getArgument(5);
+            consumer.accept(new Reservation(
+                1L, 1L, 5L, LocalDate.of(2026, 3, 10), LocalDate.of(2026, 3, 15), ReservationStatus.APPROVED, 0L));
+            consumer.accept(new Reservation(
+                2L, 1L, 5L, LocalDate.of(2026, 3, 20), LocalDate.of(2026, 3, 22), ReservationStatus.APPROVED, 3L));
+            return null;
+        }).when(jdbcRepository).streamReservations(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldWriteOneJsonObjectPerLine() {
+        assertThat(export(ExportFormat.NDJSON)).isEqualTo("""
+            {"id":1,"userId":1,"roomId":5,"startDate":"2026-03-10","endDate":"2026-03-15","status":"APPROVED"}
+            {"id":2,"userId":1,"roomId":5,"startDate":"2026-03-20","endDate":"2026-03-22","status":"APPROVED"}
+            """);
+    }
+
+    @Test
+    void shouldWriteCsvHeaderAndRows() {
+        assertThat(export(ExportFormat.CSV)).isEqualTo("""
+            id,userId,roomId,startDate,endDate,status
+            1,1,5,2026-03-10,2026-03-15,APPROVED
+            2,1,5,2026-03-20,2026-03-22,APPROVED
+            """);
+    }
+
+    @Test
+    void shouldStreamWithFilterInsideReadOnlyTransaction() {
+        export(ExportFormat.CSV);
+
+        var order = inOrder(transactionManager, jdbcRepository);
+        order.verify(transactionManager).getTransaction(argThat(definition -> definition.isReadOnly()));
+        order.verify(jdbcRepository).streamReservations(
+            eq(5L),
+            eq(1L),
+            eq(ReservationStatus.APPROVED),
+            eq(MAR_1),
+            eq(MAR_31),
+            any());
+        order.verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void shouldRejectEmptyPeriod() {
+        assertThatThrownBy(() -> new ReservationExportFilter(null, null, null, MAR_1, MAR_1))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private String export(ExportFormat format) {
+        var out = new ByteArrayOutputStream();
+        service.export(filter, format, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
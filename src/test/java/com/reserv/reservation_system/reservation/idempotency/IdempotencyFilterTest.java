@@ -0,0 +1,118 @@
+package com.reserv.reservation_system.reservation.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+
+class IdempotencyFilterTest {
+
+    private final AtomicInteger executions = new AtomicInteger();
+
+    private final FilterChain controller = (request, response) -> {
+        int call = executions.incrementAndGet();
+        byte[] body = request.getInputStream().readAllBytes();
+        response.setContentType("application/json");
+        var http = (HttpServletResponse) response;
+        http.setStatus(201);
+        http.setHeader("ETag", "\"" + call + "\"");
+        response.getOutputStream().write(("{\"call\":" + call + ",\"echo\":"
+            + new String(body, StandardCharsets.UTF_8) + "}").getBytes(StandardCharsets.UTF_8));
+    };
+
+    private IdempotencyFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        var registry = new SimpleMeterRegistry();
+        var store = new IdempotencyStore(null, registry, Clock.systemUTC(),
+            100, Duration.ofHours(1), Duration.ofMinutes(1));
+        filter = new IdempotencyFilter(store, JsonMapper.builder().findAndAddModules().build(),
+            registry, true);
+    }
+
+    @Test
+    void replaysStoredResponseWithoutRunningTheRequestAgain() throws Exception {
+        var first = send("POST", "/reservation", "key-1", "{\"roomId\":1}");
+        var retry = send("POST", "/reservation", "key-1", "{\"roomId\":1}");
+
+        assertThat(executions).hasValue(1);
+        assertThat(retry.getStatus()).isEqualTo(201);
+        assertThat(retry.getContentAsString()).isEqualTo(first.getContentAsString());
+        assertThat(retry.getHeader("ETag")).isEqualTo("\"1\"");
+        assertThat(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(first.getContentAsString()).contains("\"echo\":{\"roomId\":1}");
+    }
+
+    @Test
+    void rejectsKeyReusedForDifferentRequest() throws Exception {
+        send("POST", "/reservation", "key-1", "{\"roomId\":1}");
+        var reused = send("POST", "/reservation/5/approve", "key-1", "");
+
+        assertThat(executions).hasValue(1);
+        assertThat(reused.getStatus()).isEqualTo(422);
+    }
+
+    @Test
+    void serverErrorsAreNotStored() throws Exception {
+        FilterChain failing = (request, response) -> {
+            executions.incrementAndGet();
+            ((HttpServletResponse) response).setStatus(503);
+        };
+        filter.doFilter(request("DELETE", "/reservation/5/cancel", "key-2", ""),
+            new MockHttpServletResponse(), failing);
+        var retry = send("DELETE", "/reservation/5/cancel", "key-2", "");
+
+        assertThat(executions).hasValue(2);
+        assertThat(retry.getStatus()).isEqualTo(201);
+    }
+
+    @Test
+    void concurrencyConflictsAreNotStored() throws Exception {
+        FilterChain conflicting = (request, response) -> {
+            executions.incrementAndGet();
+            ((HttpServletResponse) response).setStatus(409);
+        };
+        filter.doFilter(request("PUT", "/reservation/5/approve", "key-4", ""),
+            new MockHttpServletResponse(), conflicting);
+        var retry = send("PUT", "/reservation/5/approve", "key-4", "");
+
+        assertThat(executions).hasValue(2);
+        assertThat(retry.getStatus()).isEqualTo(201);
+    }
+
+    @Test
+    void ignoresRequestsOutsideReservationMutations() throws Exception {
+        send("POST", "/reservation/availability/check", "key-3", "{}");
+        send("POST", "/reservation/availability/check", "key-3", "{}");
+
+        assertThat(executions).hasValue(2);
+    }
+
+    private MockHttpServletResponse send(String method, String uri, String key, String body)
+            throws Exception {
+        var response = new MockHttpServletResponse();
+        filter.doFilter(request(method, uri, key, body), response, controller);
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String method, String uri, String key, String body) {
+        var request = new MockHttpServletRequest(method, uri);
+        request.addHeader(IdempotencyFilter.HEADER, key);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
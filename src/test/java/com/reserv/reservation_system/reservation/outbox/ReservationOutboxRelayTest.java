@@ -0,0 +1,69 @@
+package com.reserv.reservation_system.reservation.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ReservationOutboxRelayTest {
+
+    private final ReservationOutboxRepository outboxRepository = mock(ReservationOutboxRepository.class);
+    private final ReservationEventSink sink = mock(ReservationEventSink.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final ReservationOutboxRelay relay = new ReservationOutboxRelay(
+        outboxRepository,
+        sink,
+        mock(PlatformTransactionManager.class),
+        meterRegistry,
+        true,
+        2
+    );
+
+    @Test
+    void shouldDrainFullBatchesUntilOutboxIsEmpty() throws Exception {
+
+        var first = List.of(message(1L), message(2L));
+        var second = List.of(message(3L));
+        when(outboxRepository.lockNextBatch(2)).thenReturn(first, second);
+        when(outboxRepository.count()).thenReturn(1L);
+
+        relay.relay();
+
+        verify(sink).publish(first);
+        verify(sink).publish(second);
+        verify(outboxRepository).deleteAll(first);
+        verify(outboxRepository).deleteAll(second);
+        assertThat(meterRegistry.get("reservation.outbox.published").counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("reservation.outbox.pending").gauge().value()).isEqualTo(1);
+        verify(outboxRepository).count();
+    }
+
+    @Test
+    void shouldKeepBatchWhenSinkFails() throws Exception {
+
+        var batch = List.of(message(1L));
+        when(outboxRepository.lockNextBatch(2)).thenReturn(batch);
+        doThrow(new IllegalStateException("sink is down")).when(sink).publish(batch);
+
+        relay.relay();
+
+        verify(outboxRepository, never()).deleteAll(any());
+        assertThat(meterRegistry.get("reservation.outbox.failures").counter().count()).isEqualTo(1);
+    }
+
+    private static OutboxMessage message(Long id) {
+        return new OutboxMessage(id, "APPROVED", 10L + id, "{}", Instant.now());
+    }
+}
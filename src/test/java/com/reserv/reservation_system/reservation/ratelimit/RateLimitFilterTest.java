@@ -0,0 +1,89 @@
+package com.reserv.reservation_system.reservation.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+
+class RateLimitFilterTest {
+
+    private final AtomicInteger executions = new AtomicInteger();
+
+    private final FilterChain controller = (request, response) -> executions.incrementAndGet();
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private LoadShedder shedder;
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        shedder = new LoadShedder(registry, "primary", true, Duration.ofMillis(200), Duration.ofSeconds(1));
+        filter = new RateLimitFilter(shedder, JsonMapper.builder().findAndAddModules().build(), registry,
+            true, "X-Client-Id", 100, 1, 2, 100, 200);
+    }
+
+    @Test
+    void limitsEachClientSeparately() throws Exception {
+        assertThat(send("POST", "/reservation", "a").getStatus()).isEqualTo(200);
+        assertThat(send("POST", "/reservation/5/approve", "a").getStatus()).isEqualTo(200);
+        var limited = send("DELETE", "/reservation/5/cancel", "a");
+
+        assertThat(limited.getStatus()).isEqualTo(429);
+        assertThat(limited.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(send("POST", "/reservation", "b").getStatus()).isEqualTo(200);
+        assertThat(send("POST", "/reservation/availability/check", "a").getStatus()).isEqualTo(200);
+        assertThat(executions).hasValue(4);
+    }
+
+    @Test
+    void onlyMutationsAndChecksAreLimited() {
+        assertThat(RateLimitFilter.kind(request("GET", "/reservation", "a"))).isNull();
+        assertThat(RateLimitFilter.kind(request("POST", "/reservation/summary/reconcile", "a"))).isNull();
+        assertThat(RateLimitFilter.kind(request("GET", "/reservation/availability/calendar", "a"))).isNull();
+        assertThat(RateLimitFilter.kind(request("PUT", "/reservation/5", "a")))
+            .isEqualTo(RateLimitFilter.Kind.MUTATION);
+        assertThat(RateLimitFilter.kind(request("POST", "/reservation/availability/check/batch", "a")))
+            .isEqualTo(RateLimitFilter.Kind.CHECK);
+    }
+
+    @Test
+    void shedsWhilePoolWaitIsOverThreshold() throws Exception {
+        Timer acquire = Timer.builder("hikaricp.connections.acquire").tag("pool", "primary").register(registry);
+        acquire.record(Duration.ofMillis(500));
+        shedder.sample();
+
+        var shed = send("POST", "/reservation", "a");
+        assertThat(shed.getStatus()).isEqualTo(503);
+        assertThat(shed.getHeader("Retry-After")).isEqualTo("1");
+
+        acquire.record(Duration.ofMillis(5));
+        shedder.sample();
+
+        assertThat(send("POST", "/reservation", "a").getStatus()).isEqualTo(200);
+        assertThat(executions).hasValue(1);
+    }
+
+    private MockHttpServletResponse send(String method, String path, String client) throws Exception {
+        var response = new MockHttpServletResponse();
+        filter.doFilter(request(method, path, client), response, controller);
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String method, String path, String client) {
+        var request = new MockHttpServletRequest(method, path);
+        request.addHeader("X-Client-Id", client);
+        return request;
+    }
+}
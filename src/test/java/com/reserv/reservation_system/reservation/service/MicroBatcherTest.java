@@ -0,0 +1,80 @@
+package com.reserv.reservation_system.reservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class MicroBatcherTest {
+
+    @Test
+    void shouldGroupConcurrentItemsIntoOneBatch() {
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+
+        try (var batcher = new MicroBatcher<Integer, Integer>(
+                "test-batcher", 10, TimeUnit.MILLISECONDS.toNanos(200), 100,
+                items -> items.stream().map(it -> it * 2).toList(),
+                batchSizes::add)) {
+
+            List<CompletableFuture<Integer>> results = IntStream.range(0, 5)
+                .mapToObj(batcher::submit)
+                .toList();
+
+            assertThat(results.stream().map(CompletableFuture::join).toList())
+                .containsExactly(0, 2, 4, 6, 8);
+            assertThat(batchSizes).containsExactly(5);
+        }
+    }
+
+    @Test
+    void shouldFailOnlyTheBadItemWhenBatchFails() {
+        try (var batcher = new MicroBatcher<Integer, Integer>(
+                "test-batcher", 10, TimeUnit.MILLISECONDS.toNanos(200), 100,
+                items -> {
+                    if (items.contains(-1)) {
+                        throw new IllegalArgumentException("negative");
+                    }
+                    return items;
+                },
+                size -> { })) {
+
+            var good = batcher.submit(1);
+            var bad = batcher.submit(-1);
+            var other = batcher.submit(2);
+
+            assertThat(good.join()).isEqualTo(1);
+            assertThat(other.join()).isEqualTo(2);
+            assertThatThrownBy(bad::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Test
+    void shouldKeepFlushingAfterAnError() {
+        try (var batcher = new MicroBatcher<Integer, Integer>(
+                "test-batcher", 10, TimeUnit.MILLISECONDS.toNanos(50), 100,
+                items -> {
+                    if (items.contains(-1)) {
+                        throw new AssertionError("boom");
+                    }
+                    return items;
+                },
+                size -> { })) {
+
+            var failed = batcher.submit(-1);
+            assertThatThrownBy(failed::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(AssertionError.class);
+
+            assertThat(batcher.submit(1).join()).isEqualTo(1);
+        }
+    }
+}
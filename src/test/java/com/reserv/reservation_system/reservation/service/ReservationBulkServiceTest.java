@@ -0,0 +1,105 @@
+package com.reserv.reservation_system.reservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.reserv.reservation_system.common.metrics.ReservationMetrics;
+import com.reserv.reservation_system.reservation.api.dto.BulkOperationResult;
+import com.reserv.reservation_system.reservation.availability.ApprovedReservationIndex;
+import com.reserv.reservation_system.reservation.domain.ReservationStatus;
+import com.reserv.reservation_system.reservation.persistence.ReservationEntity;
+import com.reserv.reservation_system.reservation.persistence.ReservationJdbcRepository;
+import com.reserv.reservation_system.reservation.persistence.ReservationRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationBulkServiceTest {
+
+    @Mock
+    private ReservationRepository repository;
+
+    @Mock
+    private ReservationJdbcRepository jdbcRepository;
+
+    @Mock
+    private ApprovedReservationIndex approvedIndex;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private ReservationMetrics metrics = new ReservationMetrics(meterRegistry);
+
+    @Spy
+    private RoomApprovalLocks roomLocks = new RoomApprovalLocks(16, metrics);
+
+    @Spy
+    private ReservationCache cache = new ReservationCache(
+        true, 100, Duration.ofMinutes(1), Duration.ofSeconds(2), meterRegistry
+    );
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private ReservationBulkService service;
+
+    @Test
+    void shouldRetryRoomByRoomWhenAnotherNodeApprovedConcurrently() {
+        var first = pending(1L, 1L);
+        var second = pending(2L, 2L);
+        var constraint = new DataIntegrityViolationException("reservations_no_overlap");
+
+        when(repository.findAllById(List.of(1L, 2L))).thenReturn(List.of(first, second));
+        when(repository.findOverlappingIntervals(any(), any(), any(), any())).thenReturn(List.of());
+        when(jdbcRepository.updateStatuses(any(), eq(ReservationStatus.PENDING), eq(ReservationStatus.APPROVED)))
+            .thenThrow(constraint)
+            .thenReturn(new int[] {1})
+            .thenThrow(constraint);
+
+        List<BulkOperationResult> results = service.approveReservations(List.of(1L, 2L));
+
+        assertThat(results).extracting(BulkOperationResult::success).containsExactly(true, false);
+        assertThat(results.get(0).status()).isEqualTo(ReservationStatus.APPROVED);
+        assertThat(results.get(1).status()).isEqualTo(ReservationStatus.PENDING);
+        verify(jdbcRepository).updateStatuses(
+            argThat(it -> it.size() == 1 && it.get(0).id().equals(1L)),
+            eq(ReservationStatus.PENDING),
+            eq(ReservationStatus.APPROVED)
+        );
+    }
+
+    private static ReservationEntity pending(Long id, Long roomId) {
+        var entity = new ReservationEntity(
+            id,
+            1L,
+            roomId,
+            LocalDate.now().plusDays(1),
+            LocalDate.now().plusDays(5),
+            ReservationStatus.PENDING
+        );
+        entity.setVersion(0L);
+        return entity;
+    }
+}
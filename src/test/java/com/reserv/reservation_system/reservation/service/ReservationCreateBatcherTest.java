@@ -0,0 +1,91 @@
+package com.reserv.reservation_system.reservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.reserv.reservation_system.reservation.domain.Reservation;
+import com.reserv.reservation_system.reservation.domain.ReservationStatus;
+import com.reserv.reservation_system.reservation.persistence.ReservationRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Runs the batcher against Hibernate on H2, so retries of a failed batch go through
+ * the same persist/merge decisions as in production.
+ */
+@DataJpaTest(properties = {
+    "spring.flyway.enabled=false",
+    "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReservationCreateBatcherTest {
+
+    private static final LocalDate START = LocalDate.of(2026, 5, 1);
+
+    @Autowired
+    private ReservationRepository repository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private ReservationCreateBatcher batcher;
+
+    @BeforeEach
+    void setUp() {
+        batcher = new ReservationCreateBatcher(
+            repository,
+            new ReservationMapper(),
+            event -> { },
+            transactionManager,
+            new SimpleMeterRegistry(),
+            true,
+            10,
+            Duration.ofMillis(200),
+            100,
+            Duration.ofSeconds(5)
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        batcher.destroy();
+        repository.deleteAll();
+    }
+
+    @Test
+    void shouldSaveGoodItemsOfFailedBatchOnRetry() {
+        var first = CompletableFuture.supplyAsync(() -> batcher.create(pending(1L)));
+        // user_id is NOT NULL, so this row fails the whole batch on flush.
+        var bad = CompletableFuture.supplyAsync(() -> batcher.create(pending(null)));
+        var second = CompletableFuture.supplyAsync(() -> batcher.create(pending(2L)));
+
+        Reservation firstCreated = first.join();
+        Reservation secondCreated = second.join();
+
+        assertThat(firstCreated.id()).isNotNull();
+        assertThat(firstCreated.version()).isZero();
+        assertThat(secondCreated.id()).isNotNull();
+        assertThatThrownBy(bad::join).hasCauseInstanceOf(DataIntegrityViolationException.class);
+        assertThat(repository.findAll())
+            .extracting(it -> it.getUserId())
+            .containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    private static Reservation pending(Long userId) {
+        return new Reservation(null, userId, 1L, START, START.plusDays(2), ReservationStatus.PENDING, null);
+    }
+}
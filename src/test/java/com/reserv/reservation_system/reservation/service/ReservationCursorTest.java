@@ -0,0 +1,62 @@
+package com.reserv.reservation_system.reservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.reserv.reservation_system.reservation.persistence.ReservationSortKey;
+
+class ReservationCursorTest {
+
+    private static final LocalDate START = LocalDate.of(2026, 3, 10);
+
+    @Test
+    void shouldRoundTripStartDateCursor() {
+        var cursor = ReservationCursor.after(ReservationSortKey.START_DATE, START, 42L);
+
+        assertThat(ReservationCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void shouldRoundTripIdCursorWithoutStartDate() {
+        var cursor = ReservationCursor.after(ReservationSortKey.ID, START, 42L);
+
+        assertThat(cursor.startDate()).isNull();
+        assertThat(ReservationCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void shouldRejectMalformedBase64() {
+        assertThatThrownBy(() -> ReservationCursor.decode("not base64!"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Invalid cursor");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "START_DATE:42",
+        "START_DATE:2026-03-10:42:1",
+        "ID",
+        "ID:2026-03-10:42",
+        "PRICE:42",
+        "START_DATE:2026-13-10:42",
+        "ID:forty-two",
+        ""
+    })
+    void shouldRejectCursorsThatDoNotMatchTheirSortKey(String raw) {
+        String cursor = Base64.getUrlEncoder()
+            .withoutPadding()
+            .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> ReservationCursor.decode(cursor))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Invalid cursor");
+    }
+}
@@ -0,0 +1,145 @@
+package com.reserv.reservation_system.reservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.reserv.reservation_system.common.metrics.ReservationMetrics;
+import com.reserv.reservation_system.reservation.availability.ApprovedReservationIndex;
+import com.reserv.reservation_system.reservation.domain.Reservation;
+import com.reserv.reservation_system.reservation.persistence.ReservationJdbcRepository;
+import com.reserv.reservation_system.reservation.persistence.ReservationRepository;
+import com.reserv.reservation_system.reservation.persistence.ReservationSortKey;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Pages through live and archived rows with the keyset predicates of the real search query.
+ */
+@DataJpaTest(properties = {
+    "spring.flyway.enabled=false",
+    "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReservationKeysetPagingTest {
+
+    private static final LocalDate MAR_1 = LocalDate.of(2026, 3, 1);
+    private static final LocalDate MAR_5 = LocalDate.of(2026, 3, 5);
+    private static final LocalDate MAR_9 = LocalDate.of(2026, 3, 9);
+
+    @Autowired
+    private ReservationRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private ReservationService service;
+
+    @BeforeEach
+    void setUp() {
+        var registry = new SimpleMeterRegistry();
+        var metrics = new ReservationMetrics(registry);
+        service = new ReservationService(
+            repository,
+            new ReservationMapper(),
+            mock(ApprovedReservationIndex.class),
+            new RoomApprovalLocks(16, metrics),
+            metrics,
+            new ReservationCache(false, 100, Duration.ofMinutes(1), Duration.ofSeconds(2), registry),
+            event -> { },
+            transactionManager,
+            mock(ReservationCreateBatcher.class),
+            mock(ReservationJdbcRepository.class)
+        );
+
+        // Ids are out of start date order and three stays share MAR_5, one of them archived.
+        live(1, MAR_9);
+        live(2, MAR_5);
+        live(3, MAR_1);
+        archived(4, MAR_5);
+        live(5, MAR_5);
+        live(6, MAR_1);
+        live(7, MAR_9);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM reservations");
+        jdbcTemplate.update("DELETE FROM reservations_archive");
+    }
+
+    @Test
+    void shouldNeitherSkipNorRepeatRowsWithTiedStartDates() {
+        assertThat(allPages(ReservationSortKey.START_DATE, 2))
+            .containsExactly(3L, 6L, 2L, 4L, 5L, 1L, 7L);
+        assertThat(allPages(ReservationSortKey.START_DATE, 1))
+            .containsExactly(3L, 6L, 2L, 4L, 5L, 1L, 7L);
+    }
+
+    @Test
+    void shouldPageByIdAcrossLiveAndArchivedRows() {
+        assertThat(allPages(ReservationSortKey.ID, 3))
+            .containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L);
+    }
+
+    @Test
+    void shouldRejectCursorIssuedForAnotherSort() {
+        var first = service.searchSliceByFilter(filter(ReservationSortKey.ID, 2, null));
+
+        assertThatThrownBy(() -> service.searchSliceByFilter(
+                filter(ReservationSortKey.START_DATE, 2, first.nextCursor())))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("sort=ID");
+    }
+
+    private List<Long> allPages(ReservationSortKey sort, int pageSize) {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            ReservationSlice slice = service.searchSliceByFilter(filter(sort, pageSize, cursor));
+            assertThat(slice.items()).hasSizeLessThanOrEqualTo(pageSize);
+            slice.items().stream().map(Reservation::id).forEach(ids::add);
+            cursor = slice.nextCursor();
+        } while (cursor != null);
+        return ids;
+    }
+
+    private static ReservationSearchFilter filter(ReservationSortKey sort, int pageSize, String cursor) {
+        return new ReservationSearchFilter(1L, null, null, pageSize, null, sort, cursor);
+    }
+
+    private void live(long id, LocalDate startDate) {
+        jdbcTemplate.update("""
+                INSERT INTO reservations (id, user_id, room_id, start_date, end_date, status, version)
+                VALUES (?, 1, 1, ?, ?, 'PENDING', 0)
+                """,
+            id, startDate, startDate.plusDays(2));
+    }
+
+    private void archived(long id, LocalDate startDate) {
+        jdbcTemplate.update("""
+                INSERT INTO reservations_archive
+                    (id, user_id, room_id, start_date, end_date, status, version, archived_at)
+                VALUES (?, 1, 1, ?, ?, 'CANCELLED', 0, CURRENT_TIMESTAMP)
+                """,
+            id, startDate, startDate.plusDays(2));
+    }
+}
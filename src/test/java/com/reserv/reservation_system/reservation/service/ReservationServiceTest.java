@@ -1,21 +1,40 @@
 package com.reserv.reservation_system.reservation.service;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import com.reserv.reservation_system.common.exception.ReservationConflictException;
+import com.reserv.reservation_system.common.exception.StaleReservationException;
+import com.reserv.reservation_system.common.metrics.ReservationMetrics;
 import com.reserv.reservation_system.reservation.ReservationFixtures;
+import com.reserv.reservation_system.reservation.availability.ApprovedReservationIndex;
 import com.reserv.reservation_system.reservation.domain.ReservationStatus;
+import com.reserv.reservation_system.reservation.events.ReservationChangeType;
+import com.reserv.reservation_system.reservation.events.ReservationChangedEvent;
+import com.reserv.reservation_system.reservation.persistence.ReservationJdbcRepository;
 import com.reserv.reservation_system.reservation.persistence.ReservationRepository;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.persistence.EntityNotFoundException;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,34 +46,113 @@ class ReservationServiceTest {
     @Mock
     private ReservationMapper mapper;
 
+    @Mock
+    private ApprovedReservationIndex approvedIndex;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private ReservationMetrics metrics = new ReservationMetrics(meterRegistry);
+
+    @Spy
+    private RoomApprovalLocks roomLocks = new RoomApprovalLocks(16, metrics);
+
+    @Spy
+    private ReservationCache cache = new ReservationCache(
+        true, 100, Duration.ofMinutes(1), Duration.ofSeconds(2), meterRegistry
+    );
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ReservationCreateBatcher createBatcher;
+
+    @Mock
+    private ReservationJdbcRepository jdbcRepository;
+
     @InjectMocks
     private ReservationService service;
 
     @Test
     void shouldReturnReservationById () {
 
-        var entity = ReservationFixtures.defaultEntity(ReservationStatus.PENDING);
         var domain = ReservationFixtures.defaultDomain(ReservationStatus.PENDING);
 
-        when(repository.findById(entity.getId())).thenReturn(Optional.of(entity));
-        when(mapper.toDomain(entity)).thenReturn(domain);
+        when(repository.findReservationById(domain.id())).thenReturn(Optional.of(domain));
 
-        var result = service.getReservationById(entity.getId());
+        var result = service.getReservationById(domain.id());
 
         assertThat(result).isEqualTo(domain);
         
-        assertThat(result.id()).isEqualTo(entity.getId());
+        assertThat(result.id()).isEqualTo(domain.id());
         assertThat(result.status()).isEqualTo(ReservationStatus.PENDING);
     }
 
+    @Test
+    void shouldServeRepeatedReadsFromCacheUntilApproved() {
+
+        var entity = ReservationFixtures.defaultEntity(ReservationStatus.PENDING);
+        var pending = ReservationFixtures.defaultDomain(ReservationStatus.PENDING);
+        var approved = ReservationFixtures.defaultDomain(ReservationStatus.APPROVED);
+
+        when(repository.findById(entity.getId())).thenReturn(Optional.of(entity));
+        when(repository.findRoomIdById(entity.getId())).thenReturn(Optional.of(entity.getRoomId()));
+        when(repository.findConflictReservationIds(
+            entity.getRoomId(),
+            entity.getStartDate(),
+            entity.getEndDate(),
+            ReservationStatus.APPROVED
+        )).thenReturn(List.of());
+        when(repository.findReservationById(entity.getId()))
+            .thenReturn(Optional.of(pending), Optional.of(approved));
+        when(mapper.toDomain(entity)).thenReturn(approved);
+
+        assertThat(service.getReservationById(entity.getId())).isEqualTo(pending);
+        assertThat(service.getReservationById(entity.getId())).isEqualTo(pending);
+        verify(repository, times(1)).findReservationById(entity.getId());
+
+        service.approveReservation(entity.getId());
+
+        assertThat(service.getReservationById(entity.getId()).status())
+            .isEqualTo(ReservationStatus.APPROVED);
+        verify(repository, times(2)).findReservationById(entity.getId());
+    }
+
+    @Test
+    void shouldFindArchivedReservationById() {
+
+        var archived = ReservationFixtures.defaultDomain(ReservationStatus.CANCELLED);
+
+        when(repository.findReservationById(archived.id())).thenReturn(Optional.empty());
+        when(repository.findArchivedReservationById(archived.id())).thenReturn(Optional.of(archived));
+
+        assertThat(service.getReservationById(archived.id())).isEqualTo(archived);
+    }
+
     @Test
     void shouldThrowEntityNotFoundException() {
         
-        when(repository.findById(99L)).thenReturn(Optional.empty());
+        when(repository.findReservationById(99L)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> service.getReservationById(99L))
             .isInstanceOf(EntityNotFoundException.class)
             .hasMessageContaining("99");
+        assertThat(operationCount("get-by-id", "not-found")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRejectOffsetPagingBeyondLimit() {
+
+        var filter = new ReservationSearchFilter(null, null, null, 1_000, 101, null, null);
+
+        assertThatThrownBy(() -> service.searchAllByFilter(filter))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("cursor");
+        verify(repository, never()).search(any());
     }
 
     @Test
@@ -84,4 +182,156 @@ class ReservationServiceTest {
         assertThat(entity.getStatus()).isEqualTo(ReservationStatus.PENDING);
     }
 
+    @Test
+    void shouldCreateThroughBatcherWhenEnabled() {
+
+        var inputDomain = ReservationFixtures.defaultDomain(null);
+        var entity = ReservationFixtures.defaultEntity(null);
+        var outputDomain = ReservationFixtures.defaultDomain(ReservationStatus.PENDING);
+
+        when(mapper.toEntity(inputDomain)).thenReturn(entity);
+        when(mapper.toDomain(entity)).thenReturn(outputDomain);
+        when(createBatcher.isEnabled()).thenReturn(true);
+        when(createBatcher.create(outputDomain)).thenReturn(outputDomain);
+
+        assertThat(service.createReservation(inputDomain)).isEqualTo(outputDomain);
+        assertThat(entity.getStatus()).isEqualTo(ReservationStatus.PENDING);
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    void shouldUpdateWithSingleConditionalStatementWhenVersionMatches() {
+
+        var input = ReservationFixtures.defaultDomain(null);
+
+        var previous = ReservationFixtures.defaultDomain(ReservationStatus.PENDING);
+        when(jdbcRepository.updateIfVersion(
+            1L, 3L, ReservationStatus.PENDING,
+            input.userId(), input.roomId(), input.startDate(), input.endDate()
+        )).thenReturn(Optional.of(previous));
+
+        var updated = service.updateReservation(1L, input, 3L);
+
+        assertThat(updated.version()).isEqualTo(4L);
+        assertThat(updated.status()).isEqualTo(ReservationStatus.PENDING);
+        verify(repository, never()).findById(any());
+        verify(eventPublisher).publishEvent(argThat((Object event) ->
+            event instanceof ReservationChangedEvent changed
+                && changed.type() == ReservationChangeType.UPDATED
+                && changed.previous().equals(previous)));
+    }
+
+    @Test
+    void shouldRejectUpdateWhenVersionIsStale() {
+
+        var input = ReservationFixtures.defaultDomain(null);
+        var entity = ReservationFixtures.defaultEntity(ReservationStatus.PENDING);
+        entity.setVersion(5L);
+
+        when(jdbcRepository.updateIfVersion(
+            1L, 3L, ReservationStatus.PENDING,
+            input.userId(), input.roomId(), input.startDate(), input.endDate()
+        )).thenReturn(Optional.empty());
+        when(repository.findById(1L)).thenReturn(Optional.of(entity));
+
+        assertThatThrownBy(() -> service.updateReservation(1L, input, 3L))
+            .isInstanceOf(StaleReservationException.class)
+            .hasMessageContaining("version 5");
+        assertThat(operationCount("update", "conflict")).isEqualTo(1);
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void shouldRejectApprovalWhenConflictsExist() {
+
+        var entity = ReservationFixtures.defaultEntity(ReservationStatus.PENDING);
+
+        when(repository.findRoomIdById(entity.getId())).thenReturn(Optional.of(entity.getRoomId()));
+        when(repository.findById(entity.getId())).thenReturn(Optional.of(entity));
+        when(repository.findConflictReservationIds(
+            entity.getRoomId(),
+            entity.getStartDate(),
+            entity.getEndDate(),
+            ReservationStatus.APPROVED
+        )).thenReturn(List.of(42L));
+
+        assertThatThrownBy(() -> service.approveReservation(entity.getId()))
+            .isInstanceOf(ReservationConflictException.class)
+            .hasMessageContaining("42");
+        verify(repository, never()).saveAndFlush(any());
+        assertThat(operationCount("approve", "conflict")).isEqualTo(1);
+        assertThat(meterRegistry.get(ReservationMetrics.CONFLICTS_SUMMARY)
+            .tag("mode", "single").summary().totalAmount()).isEqualTo(1);
+    }
+
+    @Test
+    void succesfulReservationApproving() {
+
+        var entity = ReservationFixtures.defaultEntity(ReservationStatus.PENDING);
+        var outputDomain = ReservationFixtures.defaultDomain(ReservationStatus.APPROVED);
+
+        when(repository.findRoomIdById(entity.getId())).thenReturn(Optional.of(entity.getRoomId()));
+        when(repository.findById(entity.getId())).thenReturn(Optional.of(entity));
+        when(repository.findConflictReservationIds(
+            entity.getRoomId(),
+            entity.getStartDate(),
+            entity.getEndDate(),
+            ReservationStatus.APPROVED
+        )).thenReturn(List.of());
+        when(mapper.toDomain(entity)).thenReturn(outputDomain);
+
+        var result = service.approveReservation(entity.getId());
+
+        assertThat(entity.getStatus()).isEqualTo(ReservationStatus.APPROVED);
+        assertThat(result.status()).isEqualTo(ReservationStatus.APPROVED);
+        verify(approvedIndex).putAfterCommit(
+            entity.getId(),
+            entity.getRoomId(),
+            entity.getStartDate(),
+            entity.getEndDate()
+        );
+        verify(eventPublisher).publishEvent(argThat((Object event) ->
+            event instanceof ReservationChangedEvent changed
+                && changed.type() == ReservationChangeType.APPROVED
+                && changed.reservation().equals(outputDomain)));
+    }
+
+    @Test
+    void shouldCancelOnlyFromTheStatusAndVersionThatWasRead() {
+
+        var entity = ReservationFixtures.defaultEntity(ReservationStatus.PENDING);
+
+        when(repository.findById(entity.getId())).thenReturn(Optional.of(entity));
+        when(repository.setStatus(entity.getId(), ReservationStatus.PENDING, 0L, ReservationStatus.CANCELLED))
+            .thenReturn(1);
+
+        service.cancelReservation(entity.getId());
+
+        verify(eventPublisher).publishEvent(argThat((Object event) ->
+            event instanceof ReservationChangedEvent changed
+                && changed.type() == ReservationChangeType.CANCELLED
+                && changed.reservation().version() == 1L));
+    }
+
+    @Test
+    void shouldNotCancelReservationApprovedConcurrently() {
+
+        var entity = ReservationFixtures.defaultEntity(ReservationStatus.PENDING);
+
+        when(repository.findById(entity.getId())).thenReturn(Optional.of(entity));
+        when(repository.setStatus(entity.getId(), ReservationStatus.PENDING, 0L, ReservationStatus.CANCELLED))
+            .thenReturn(0);
+
+        assertThatThrownBy(() -> service.cancelReservation(entity.getId()))
+            .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    private long operationCount(String operation, String outcome) {
+        return meterRegistry.get(ReservationMetrics.OPERATION_TIMER)
+            .tag("operation", operation)
+            .tag("outcome", outcome)
+            .timer()
+            .count();
+    }
 }
@@ -0,0 +1,60 @@
+package com.reserv.reservation_system.reservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.reserv.reservation_system.reservation.domain.ReservationStatus;
+import com.reserv.reservation_system.reservation.persistence.ReservationInterval;
+
+class RoomConflictResolverTest {
+
+    private static final LocalDate BASE = LocalDate.of(2030, 1, 1);
+
+    @Test
+    void shouldRejectCandidatesOverlappingApprovedReservations() {
+
+        var approved = List.of(interval(1L, 1L, 0, 5, ReservationStatus.APPROVED));
+        var candidates = List.of(
+            interval(10L, 1L, 3, 7, ReservationStatus.PENDING),
+            interval(11L, 1L, 5, 8, ReservationStatus.PENDING)
+        );
+
+        var resolution = RoomConflictResolver.resolve(candidates, approved);
+
+        assertThat(resolution.accepted()).extracting(ReservationInterval::id).containsExactly(11L);
+        assertThat(resolution.rejected()).containsOnlyKeys(10L);
+        assertThat(resolution.rejected().get(10L)).containsExactly(1L);
+    }
+
+    @Test
+    void shouldResolveConflictsBetweenCandidatesInGivenOrder() {
+
+        var candidates = List.of(
+            interval(10L, 1L, 0, 10, ReservationStatus.PENDING),
+            interval(11L, 1L, 2, 4, ReservationStatus.PENDING),
+            interval(12L, 2L, 2, 4, ReservationStatus.PENDING),
+            interval(13L, 1L, 10, 12, ReservationStatus.PENDING)
+        );
+
+        var resolution = RoomConflictResolver.resolve(candidates, List.of());
+
+        assertThat(resolution.accepted())
+            .extracting(ReservationInterval::id)
+            .containsExactly(10L, 12L, 13L);
+        assertThat(resolution.rejected().get(11L)).containsExactly(10L);
+    }
+
+    private static ReservationInterval interval(
+        Long id,
+        Long roomId,
+        int from,
+        int to,
+        ReservationStatus status
+    ) {
+        return new ReservationInterval(id, roomId, BASE.plusDays(from), BASE.plusDays(to), status);
+    }
+}
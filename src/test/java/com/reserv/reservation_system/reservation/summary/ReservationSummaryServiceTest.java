@@ -0,0 +1,61 @@
+package com.reserv.reservation_system.reservation.summary;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.reserv.reservation_system.common.metrics.ReservationMetrics;
+import com.reserv.reservation_system.reservation.domain.ReservationStatus;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ReservationSummaryServiceTest {
+
+    private final ReservationSummaryRepository repository = mock(ReservationSummaryRepository.class);
+
+    private final ReservationSummaryService service = new ReservationSummaryService(
+        repository,
+        new ReservationMetrics(new SimpleMeterRegistry()),
+        mock(PlatformTransactionManager.class),
+        new SimpleMeterRegistry(),
+        true
+    );
+
+    @Test
+    void shouldApplyOnlyTheDriftFoundByTheRecount() {
+        var drift = new SummaryDeltas();
+        drift.adjustRoom(7L, ReservationStatus.APPROVED, -1);
+        when(repository.tryLockReconcile()).thenReturn(true);
+        when(repository.drift()).thenReturn(drift);
+
+        service.reconcile();
+
+        verify(repository).apply(drift);
+    }
+
+    @Test
+    void shouldWriteNothingWhenSummariesMatch() {
+        when(repository.tryLockReconcile()).thenReturn(true);
+        when(repository.drift()).thenReturn(new SummaryDeltas());
+
+        service.reconcile();
+
+        verify(repository, never()).apply(any());
+    }
+
+    @Test
+    void shouldSkipWhileAnotherRunHoldsTheLock() {
+        when(repository.tryLockReconcile()).thenReturn(false);
+
+        assertThat(service.rebuild()).isFalse();
+
+        verify(repository, never()).drift();
+        verify(repository, never()).apply(any());
+    }
+}
@@ -0,0 +1,97 @@
+package com.reserv.reservation_system.reservation.summary;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import com.reserv.reservation_system.reservation.domain.Reservation;
+import com.reserv.reservation_system.reservation.domain.ReservationStatus;
+import com.reserv.reservation_system.reservation.events.ReservationChangeType;
+import com.reserv.reservation_system.reservation.events.ReservationChangedEvent;
+import com.reserv.reservation_system.reservation.summary.SummaryDeltas.NightsKey;
+import com.reserv.reservation_system.reservation.summary.SummaryDeltas.StatusKey;
+
+class SummaryDeltasTest {
+
+    private static final LocalDate JAN_30 = LocalDate.of(2026, 1, 30);
+    private static final LocalDate MAR_2 = LocalDate.of(2026, 3, 2);
+
+    @Test
+    void shouldSplitNightsByMonth() {
+        assertThat(SummaryDeltas.nightsByMonth(JAN_30, MAR_2)).containsExactly(
+            entry(LocalDate.of(2026, 1, 1), 2L),
+            entry(LocalDate.of(2026, 2, 1), 28L),
+            entry(LocalDate.of(2026, 3, 1), 1L)
+        );
+        assertThat(SummaryDeltas.nightsByMonth(MAR_2, MAR_2.plusDays(1)))
+            .containsExactly(entry(LocalDate.of(2026, 3, 1), 1L));
+    }
+
+    @Test
+    void shouldNetOutChangesWithinOneTransaction() {
+        var deltas = new SummaryDeltas();
+        deltas.add(event(ReservationChangeType.CREATED, ReservationStatus.PENDING, 7L));
+        deltas.add(event(ReservationChangeType.APPROVED, ReservationStatus.APPROVED, 7L));
+
+        assertThat(deltas.users()).containsExactly(
+            entry(new StatusKey(1L, ReservationStatus.APPROVED), 1L));
+        assertThat(deltas.rooms()).containsExactly(
+            entry(new StatusKey(7L, ReservationStatus.APPROVED), 1L));
+        assertThat(deltas.nights()).containsExactly(
+            entry(new NightsKey(7L, LocalDate.of(2026, 1, 1)), 2L),
+            entry(new NightsKey(7L, LocalDate.of(2026, 2, 1)), 28L),
+            entry(new NightsKey(7L, LocalDate.of(2026, 3, 1)), 1L)
+        );
+    }
+
+    @Test
+    void shouldMovePendingCountWhenUpdateChangesRoom() {
+        var deltas = new SummaryDeltas();
+        deltas.add(ReservationChangedEvent.updated(
+            reservation(ReservationStatus.PENDING, 7L),
+            reservation(ReservationStatus.PENDING, 8L)
+        ));
+
+        assertThat(deltas.users()).isEmpty();
+        assertThat(deltas.rooms()).containsExactly(
+            entry(new StatusKey(7L, ReservationStatus.PENDING), -1L),
+            entry(new StatusKey(8L, ReservationStatus.PENDING), 1L)
+        );
+        assertThat(deltas.nights()).isEmpty();
+    }
+
+    @Test
+    void shouldTakeStatusChangeOffThePreviousStatus() {
+        var deltas = new SummaryDeltas();
+        deltas.add(ReservationChangedEvent.statusChanged(
+            ReservationChangeType.CANCELLED,
+            reservation(ReservationStatus.APPROVED, 7L),
+            reservation(ReservationStatus.CANCELLED, 7L)
+        ));
+
+        assertThat(deltas.rooms()).containsExactly(
+            entry(new StatusKey(7L, ReservationStatus.APPROVED), -1L),
+            entry(new StatusKey(7L, ReservationStatus.CANCELLED), 1L)
+        );
+        assertThat(deltas.nights()).containsExactly(
+            entry(new NightsKey(7L, LocalDate.of(2026, 1, 1)), -2L),
+            entry(new NightsKey(7L, LocalDate.of(2026, 2, 1)), -28L),
+            entry(new NightsKey(7L, LocalDate.of(2026, 3, 1)), -1L)
+        );
+    }
+
+    private static ReservationChangedEvent event(
+        ReservationChangeType type,
+        ReservationStatus status,
+        Long roomId
+    ) {
+        return ReservationChangedEvent.of(type, reservation(status, roomId));
+    }
+
+    private static Reservation reservation(ReservationStatus status, Long roomId) {
+        return new Reservation(1L, 1L, roomId, JAN_30, MAR_2, status, 0L);
+    }
+}